@@ -0,0 +1,48 @@
+package com.zackehh.dotnotes.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * Entry point of the benchmark jar. This accepts all of the usual JMH command
+ * line options, but always attaches the GC profiler so that allocation rates
+ * (bytes/op) are reported alongside throughput.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * This class is designed to be used statically - if someone manages
+     * to get at it with Reflection, throw an Exception so they stop being
+     * stupid.
+     */
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Runs all benchmarks matching the provided command line options.
+     *
+     * @param args the JMH command line options
+     * @throws Exception if the benchmarks fail to run
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+
+        // only attach the profiler if not already requested
+        boolean profiled = false;
+        for (ProfilerConfig profiler : options.getProfilers()) {
+            profiled |= profiler.getKlass().equals(GCProfiler.class.getName()) || profiler.getKlass().equals("gc");
+        }
+
+        if (!profiled) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.zackehh.dotnotes.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.zackehh.dotnotes.DotNotes;
+import com.zackehh.dotnotes.NotedKey;
+import com.zackehh.dotnotes.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for whole-document operations, across all document shapes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentBenchmark {
+
+    /**
+     * The shape of the document being measured.
+     */
+    @Param({ "wide", "deep", "arrays" })
+    public String shape;
+
+    /**
+     * The document being measured.
+     */
+    private JsonNode document;
+
+    /**
+     * The flattened form of the document being measured.
+     */
+    private Map<String, JsonNode> flattened;
+
+    /**
+     * Generates the document and its flattened form.
+     */
+    @Setup
+    public void setup() {
+        this.document = Shapes.document(this.shape);
+        this.flattened = DotNotes.flatten(this.document);
+    }
+
+    @Benchmark
+    public void recurse(final Blackhole blackhole) {
+        DotNotes.recurse(this.document, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                blackhole.consume(path);
+                blackhole.consume(value);
+            }
+        });
+    }
+
+    @Benchmark
+    public void recurseSequence(final Blackhole blackhole) {
+        DotNotes.recurse(this.document, new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                blackhole.consume(path.length());
+                blackhole.consume(value);
+            }
+        });
+    }
+
+    @Benchmark
+    public void recurseWithoutPaths(final Blackhole blackhole) {
+        DotNotes.recurse(this.document, new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                blackhole.consume(key);
+                blackhole.consume(value);
+            }
+
+            @Override
+            protected boolean requirePathGeneration() {
+                return false;
+            }
+        });
+    }
+
+    @Benchmark
+    public Map<String, JsonNode> flatten() {
+        return DotNotes.flatten(this.document);
+    }
+
+    @Benchmark
+    public JsonNode inflate() throws ParseException {
+        return DotNotes.inflate(this.flattened);
+    }
+
+    @Benchmark
+    public long stream() {
+        return DotNotes.stream(this.document).count();
+    }
+}
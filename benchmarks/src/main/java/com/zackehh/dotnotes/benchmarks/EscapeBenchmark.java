@@ -0,0 +1,77 @@
+package com.zackehh.dotnotes.benchmarks;
+
+import com.zackehh.dotnotes.DotNotes;
+import com.zackehh.dotnotes.NotedKey;
+import com.zackehh.dotnotes.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for escaping and validating single keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EscapeBenchmark {
+
+    /**
+     * The raw key being measured.
+     */
+    @Param({ "simple_key", "special key", "very-long-key-which-requires-quoting-in-all-paths" })
+    public String key;
+
+    /**
+     * The key being measured, in escaped form.
+     */
+    private String escaped;
+
+    /**
+     * The key being measured, as a shared instance.
+     */
+    private NotedKey interned;
+
+    /**
+     * Generates the escaped and interned forms of the key.
+     *
+     * @throws ParseException if the key is invalid
+     */
+    @Setup
+    public void setup() throws ParseException {
+        this.escaped = DotNotes.escape(this.key);
+        this.interned = NotedKey.intern(this.key);
+    }
+
+    @Benchmark
+    public String escape() throws ParseException {
+        return DotNotes.escape(this.key);
+    }
+
+    @Benchmark
+    public String escapeInterned() throws ParseException {
+        return DotNotes.escape(this.interned);
+    }
+
+    @Benchmark
+    public boolean isEscaped() {
+        return DotNotes.isEscaped(this.escaped);
+    }
+
+    @Benchmark
+    public boolean isEscapedRaw() {
+        return DotNotes.isEscaped(this.key);
+    }
+}
@@ -0,0 +1,130 @@
+package com.zackehh.dotnotes.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.zackehh.dotnotes.DotNotes;
+import com.zackehh.dotnotes.DotPath;
+import com.zackehh.dotnotes.NotedKey;
+import com.zackehh.dotnotes.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for path-driven operations, across all path shapes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathBenchmark {
+
+    /**
+     * A single reference to the ${@link JsonNodeFactory} singleton.
+     */
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    /**
+     * The depth of the path being measured.
+     */
+    @Param({ "shallow", "deep" })
+    public String depth;
+
+    /**
+     * The style of the path being measured.
+     */
+    @Param({ "dotted", "bracketed", "quoted" })
+    public String style;
+
+    /**
+     * The path being measured.
+     */
+    private String path;
+
+    /**
+     * The path being measured, precompiled.
+     */
+    private DotPath compiled;
+
+    /**
+     * The keys of the path being measured.
+     */
+    private NotedKey[] keys;
+
+    /**
+     * A document containing the path being measured.
+     */
+    private JsonNode document;
+
+    /**
+     * The value used when creating paths.
+     */
+    private JsonNode value;
+
+    /**
+     * Generates the path and a document containing it.
+     *
+     * @throws ParseException if the path is invalid
+     */
+    @Setup
+    public void setup() throws ParseException {
+        this.path = Shapes.path(this.depth, this.style);
+        this.compiled = DotPath.compile(this.path);
+        this.value = factory.textNode("value");
+
+        List<NotedKey> keys = DotNotes.keys(this.path);
+
+        this.keys = keys.toArray(new NotedKey[keys.size()]);
+        this.document = DotNotes.create(factory.objectNode(), this.path, this.value);
+    }
+
+    @Benchmark
+    public List<NotedKey> keys() throws ParseException {
+        return DotNotes.keys(this.path);
+    }
+
+    @Benchmark
+    public DotPath compile() throws ParseException {
+        return DotPath.compile(this.path);
+    }
+
+    @Benchmark
+    public JsonNode get() throws ParseException {
+        return DotNotes.get(this.document, this.path);
+    }
+
+    @Benchmark
+    public JsonNode getCompiled() {
+        return this.compiled.get(this.document);
+    }
+
+    @Benchmark
+    public JsonNode create() throws ParseException {
+        return DotNotes.create(factory.objectNode(), this.path, this.value);
+    }
+
+    @Benchmark
+    public JsonNode createCompiled() throws ParseException {
+        return this.compiled.create(factory.objectNode(), this.value);
+    }
+
+    @Benchmark
+    public String escape() throws ParseException {
+        StringBuilder builder = new StringBuilder(this.path.length());
+        DotNotes.escape(this.keys, builder);
+        return builder.toString();
+    }
+}
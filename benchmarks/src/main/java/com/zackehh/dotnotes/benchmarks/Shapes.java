@@ -0,0 +1,116 @@
+package com.zackehh.dotnotes.benchmarks;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generators for the path and document shapes used across all benchmarks,
+ * so every benchmark measures against exactly the same inputs.
+ */
+class Shapes {
+
+    /**
+     * A single reference to the ${@link JsonNodeFactory} singleton.
+     */
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    /**
+     * This class is designed to be used statically - if someone manages
+     * to get at it with Reflection, throw an Exception so they stop being
+     * stupid.
+     */
+    private Shapes() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a path of the provided depth and style.
+     *
+     * - shallow paths contain 4 keys, deep paths contain 32 keys.
+     * - dotted paths only contain accessors, such as `key0.key1`.
+     * - bracketed paths alternate accessors and indices, such as `key0[0].key2`.
+     * - quoted paths only contain quoted keys, such as `['key 0']['key 1']`.
+     *
+     * @param depth the depth of the path, either shallow or deep
+     * @param style the style of the path, either dotted, bracketed or quoted
+     * @return a dot-noted path
+     */
+    static String path(String depth, String style) {
+        int keys = "deep".equals(depth) ? 32 : 4;
+
+        StringBuilder path = new StringBuilder();
+
+        for (int i = 0; i < keys; i++) {
+            switch (style) {
+                case "dotted":
+                    if (i > 0) {
+                        path.append('.');
+                    }
+                    path.append("key").append(i);
+                    break;
+                case "bracketed":
+                    if (i % 2 == 1) {
+                        path.append("[0]");
+                    } else {
+                        if (i > 0) {
+                            path.append('.');
+                        }
+                        path.append("key").append(i);
+                    }
+                    break;
+                case "quoted":
+                    path.append("['key ").append(i).append("']");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown path style: " + style);
+            }
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * Creates a document of the provided shape.
+     *
+     * - wide documents are a single object with 10,000 scalar fields.
+     * - deep documents are a chain of 500 nested objects, with a few fields at each level.
+     * - arrays documents are an array of 1,000 objects, each holding an array of 10 numbers.
+     *
+     * @param shape the shape of the document
+     * @return a document node
+     */
+    static ObjectNode document(String shape) {
+        ObjectNode root = factory.objectNode();
+
+        switch (shape) {
+            case "wide":
+                for (int i = 0; i < 10000; i++) {
+                    root.put("field" + i, i);
+                }
+                break;
+            case "deep":
+                ObjectNode current = root;
+                for (int i = 0; i < 500; i++) {
+                    current.put("id", i);
+                    current.put("name", "level " + i);
+                    current.put("enabled", i % 2 == 0);
+                    current = current.putObject("child");
+                }
+                break;
+            case "arrays":
+                ArrayNode items = root.putArray("items");
+                for (int i = 0; i < 1000; i++) {
+                    ArrayNode values = items.addObject().put("id", i).putArray("values");
+                    for (int j = 0; j < 10; j++) {
+                        values.add(i * j);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown document shape: " + shape);
+        }
+
+        return root;
+    }
+}
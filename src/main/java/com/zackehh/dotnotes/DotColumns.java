@@ -0,0 +1,813 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A columnar batch of flattened records, typically read from newline-delimited JSON.
+ * Each distinct dot-noted path is assigned a column id the first time it is seen, and
+ * every scalar value is appended to a typed buffer for its column, rather than creating
+ * a Map of paths to values for each record. Paths match those of
+ * ${@link DotStreams#flatten(JsonParser, DotStreams.ValueVisitor)}.
+ *
+ * Paths are resolved through a tree of the keys seen so far, so paths are only built as
+ * Strings when a column is created. Each column stores its values in a single primitive
+ * array alongside a bitmap of null rows, where a row is null if the record contained a
+ * JSON null at the path, or did not contain the path at all.
+ *
+ * The type of a column is set by the first value appended to it. If an integral value is
+ * appended to a floating point column (or the reverse), the column holds doubles. Any other
+ * mix of types turns the column into a String column, using the JSON text of each value.
+ * Values appended before a column turns into a String column are formatted as their stored
+ * type via String.valueOf, so integral values stay integral even once a column holds doubles.
+ * Numbers which do not fit into a long or a double are stored as doubles.
+ *
+ * A batch can be cleared and reused, keeping all column ids and buffers. Batches are not
+ * thread-safe.
+ */
+public final class DotColumns {
+
+    /**
+     * The root of the tree of keys.
+     */
+    private final Node root = new Node(null);
+
+    /**
+     * All columns, indexed by column id.
+     */
+    private final List<Column> columns = new ArrayList<>();
+
+    /**
+     * All columns, indexed by path.
+     */
+    private final Map<String, Column> paths = new HashMap<>();
+
+    /**
+     * The open node at each level, reused between records.
+     */
+    private Node[] nodes = new Node[16];
+
+    /**
+     * The next index at each level, or -1 for objects, reused between records.
+     */
+    private int[] indices = new int[16];
+
+    /**
+     * The number of rows in the batch.
+     */
+    private int rows;
+
+    /**
+     * Reads a single record from a ${@link JsonParser} into a new row of this batch. The
+     * parser may either be positioned before the record, or on its opening token. Once
+     * this method returns, the parser is positioned on the closing token of the record.
+     *
+     * @param parser the parser to read tokens from
+     * @return true if a record was read, false if there is no more input
+     * @throws IOException if the parser fails to read
+     */
+    public boolean append(JsonParser parser) throws IOException {
+        // move to the next record if needed
+        JsonToken token = parser.currentToken();
+        if (token == null || token.isStructEnd()) {
+            token = parser.nextToken();
+        }
+
+        // no more records
+        if (token == null) {
+            return false;
+        }
+
+        // ensure this is a valid container token
+        if (!token.isStructStart()) {
+            throw new IllegalArgumentException("Non-object provided to `append`!");
+        }
+
+        int row = this.rows++;
+
+        Node[] nodes = this.nodes;
+        int[] indices = this.indices;
+
+        // current nesting level
+        int depth = 0;
+
+        nodes[0] = this.root;
+        indices[0] = token == JsonToken.START_ARRAY ? 0 : -1;
+
+        while (true) {
+            token = parser.nextToken();
+
+            // truncated input
+            if (token == null) {
+                return true;
+            }
+
+            // move back up a level
+            if (token.isStructEnd()) {
+                if (--depth < 0) {
+                    return true;
+                }
+                continue;
+            }
+
+            Node node;
+
+            // locate the node of this value
+            if (token == JsonToken.FIELD_NAME) {
+                node = nodes[depth].field(parser.getCurrentName());
+                token = parser.nextToken();
+            } else {
+                node = nodes[depth].index(indices[depth]++);
+            }
+
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    // grow when necessary
+                    if (++depth == nodes.length) {
+                        nodes = this.nodes = Arrays.copyOf(nodes, depth << 1);
+                        indices = this.indices = Arrays.copyOf(indices, depth << 1);
+                    }
+                    nodes[depth] = node;
+                    indices[depth] = token == JsonToken.START_ARRAY ? 0 : -1;
+                    break;
+                case VALUE_TRUE:
+                    column(node).setBoolean(row, true);
+                    break;
+                case VALUE_FALSE:
+                    column(node).setBoolean(row, false);
+                    break;
+                case VALUE_NULL:
+                    column(node).setNull(row);
+                    break;
+                case VALUE_NUMBER_INT:
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                        column(node).setDouble(row, parser.getDoubleValue(), parser);
+                    } else {
+                        column(node).setLong(row, parser.getLongValue(), parser);
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    column(node).setDouble(row, parser.getDoubleValue(), parser);
+                    break;
+                default:
+                    column(node).setString(row, parser.getText());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Removes all rows from this batch. Column ids and buffers are kept, so that
+     * the batch can be reused without allocating again.
+     */
+    public void clear() {
+        for (Column column : this.columns) {
+            column.clear();
+        }
+        this.rows = 0;
+    }
+
+    /**
+     * Returns the column with the provided column id.
+     *
+     * @param id the column id
+     * @return the ${@link Column} instance
+     */
+    public Column column(int id) {
+        return this.columns.get(id);
+    }
+
+    /**
+     * Returns the column with the provided path, if one exists.
+     *
+     * @param path the dot-noted path of the column
+     * @return the ${@link Column} instance, or null
+     */
+    public Column column(String path) {
+        return this.paths.get(path);
+    }
+
+    /**
+     * Returns the number of columns in this batch.
+     *
+     * @return the number of columns
+     */
+    public int columns() {
+        return this.columns.size();
+    }
+
+    /**
+     * Returns the number of rows in this batch.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * Locates the column of a node, creating it if it does not already exist.
+     *
+     * @param node the node of a value
+     * @return the ${@link Column} of the node
+     */
+    private Column column(Node node) {
+        Column column = node.column;
+        if (column == null) {
+            column = node.column = new Column(this.columns.size(), node.path);
+            this.columns.add(column);
+            this.paths.put(column.path, column);
+        }
+        return column;
+    }
+
+    /**
+     * The types a column can hold.
+     */
+    public enum Type {
+        /**
+         * No values other than nulls have been appended.
+         */
+        NULL,
+
+        /**
+         * Boolean values.
+         */
+        BOOLEAN,
+
+        /**
+         * Integral values, stored as longs.
+         */
+        LONG,
+
+        /**
+         * Floating point values, stored as doubles.
+         */
+        DOUBLE,
+
+        /**
+         * String values, or values of mixed types.
+         */
+        STRING
+    }
+
+    /**
+     * A single typed column of values, one per row of the batch.
+     */
+    public static final class Column {
+
+        /**
+         * The id of the column.
+         */
+        private final int id;
+
+        /**
+         * The path of the column.
+         */
+        private final String path;
+
+        /**
+         * The type of the column.
+         */
+        private Type type = Type.NULL;
+
+        /**
+         * The values of a boolean column, as a bitmap.
+         */
+        private long[] booleans;
+
+        /**
+         * The values of a long column.
+         */
+        private long[] longs;
+
+        /**
+         * The values of a double column.
+         */
+        private double[] doubles;
+
+        /**
+         * The bitmap of rows inside a double column which hold integral values,
+         * which are also kept inside the long buffer.
+         */
+        private long[] integers;
+
+        /**
+         * The values of a String column.
+         */
+        private String[] strings;
+
+        /**
+         * The bitmap of non-null rows.
+         */
+        private long[] present = new long[1];
+
+        /**
+         * The number of rows with buffer space reserved.
+         */
+        private int capacity;
+
+        /**
+         * Creates a new, empty column.
+         *
+         * @param id the id of the column
+         * @param path the path of the column
+         */
+        private Column(int id, String path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        /**
+         * Returns the id of this column.
+         *
+         * @return the column id
+         */
+        public int id() {
+            return this.id;
+        }
+
+        /**
+         * Returns the dot-noted path of this column.
+         *
+         * @return the column path
+         */
+        public String path() {
+            return this.path;
+        }
+
+        /**
+         * Returns the type of this column.
+         *
+         * @return the column ${@link Type}
+         */
+        public Type type() {
+            return this.type;
+        }
+
+        /**
+         * Determines whether the value of a row is null, either because the record
+         * contained a null or because it did not contain this path.
+         *
+         * @param row the row to check
+         * @return true if the row is null
+         */
+        public boolean isNull(int row) {
+            int word = row >>> 6;
+            return word >= this.present.length || (this.present[word] & (1L << row)) == 0;
+        }
+
+        /**
+         * Returns the value of a row inside a boolean column.
+         *
+         * @param row the row to read
+         * @return the boolean value
+         */
+        public boolean getBoolean(int row) {
+            check(row, Type.BOOLEAN);
+            return (this.booleans[row >>> 6] & (1L << row)) != 0;
+        }
+
+        /**
+         * Returns the value of a row inside a long column.
+         *
+         * @param row the row to read
+         * @return the long value
+         */
+        public long getLong(int row) {
+            check(row, Type.LONG);
+            return this.longs[row];
+        }
+
+        /**
+         * Returns the value of a row inside a double column.
+         *
+         * @param row the row to read
+         * @return the double value
+         */
+        public double getDouble(int row) {
+            check(row, Type.DOUBLE);
+            return this.doubles[row];
+        }
+
+        /**
+         * Returns the value of a row inside a String column.
+         *
+         * @param row the row to read
+         * @return the String value
+         */
+        public String getString(int row) {
+            check(row, Type.STRING);
+            return this.strings[row];
+        }
+
+        /**
+         * Ensures a row can be read as the provided type.
+         *
+         * @param row the row to read
+         * @param type the type to read as
+         */
+        private void check(int row, Type type) {
+            if (this.type != type) {
+                throw new IllegalStateException("Column `" + this.path + "` is not of type " + type + "!");
+            }
+            if (isNull(row)) {
+                throw new IllegalStateException("Column `" + this.path + "` is null at row " + row + "!");
+            }
+        }
+
+        /**
+         * Removes all values, keeping the buffers for reuse.
+         */
+        private void clear() {
+            Arrays.fill(this.present, 0L);
+            this.integers = null;
+            if (this.strings != null) {
+                Arrays.fill(this.strings, null);
+            }
+            this.type = Type.NULL;
+        }
+
+        /**
+         * Marks a row as null.
+         *
+         * @param row the row to mark
+         */
+        private void setNull(int row) {
+            reserve(row);
+            this.present[row >>> 6] &= ~(1L << row);
+        }
+
+        /**
+         * Sets the boolean value of a row.
+         *
+         * @param row the row to set
+         * @param value the value to set
+         */
+        private void setBoolean(int row, boolean value) {
+            if (convert(Type.BOOLEAN) == Type.STRING) {
+                setString(row, String.valueOf(value));
+                return;
+            }
+
+            reserve(row);
+            mark(row);
+
+            if (value) {
+                this.booleans[row >>> 6] |= 1L << row;
+            } else {
+                this.booleans[row >>> 6] &= ~(1L << row);
+            }
+        }
+
+        /**
+         * Sets the long value of a row.
+         *
+         * @param row the row to set
+         * @param value the value to set
+         * @param parser the parser positioned on the value
+         * @throws IOException if the value text cannot be read
+         */
+        private void setLong(int row, long value, JsonParser parser) throws IOException {
+            switch (convert(Type.LONG)) {
+                case STRING:
+                    setString(row, parser.getText());
+                    return;
+                case DOUBLE:
+                    setIntegral(row, value);
+                    return;
+                default:
+                    reserve(row);
+                    mark(row);
+                    this.longs[row] = value;
+            }
+        }
+
+        /**
+         * Sets the double value of a row.
+         *
+         * @param row the row to set
+         * @param value the value to set
+         * @param parser the parser positioned on the value
+         * @throws IOException if the value text cannot be read
+         */
+        private void setDouble(int row, double value, JsonParser parser) throws IOException {
+            if (convert(Type.DOUBLE) == Type.STRING) {
+                setString(row, parser.getText());
+                return;
+            }
+
+            reserve(row);
+            mark(row);
+
+            this.doubles[row] = value;
+
+            if (this.integers != null) {
+                this.integers[row >>> 6] &= ~(1L << row);
+            }
+        }
+
+        /**
+         * Sets an integral value of a row inside a double column, keeping the
+         * long value so that it can be formatted as an integer later on.
+         *
+         * @param row the row to set
+         * @param value the value to set
+         */
+        private void setIntegral(int row, long value) {
+            reserve(row);
+            mark(row);
+
+            // track integral rows lazily
+            if (this.integers == null) {
+                allocate(Type.LONG);
+                this.integers = new long[words(this.capacity)];
+            }
+
+            this.doubles[row] = value;
+            this.longs[row] = value;
+            this.integers[row >>> 6] |= 1L << row;
+        }
+
+        /**
+         * Sets the String value of a row.
+         *
+         * @param row the row to set
+         * @param value the value to set
+         */
+        private void setString(int row, String value) {
+            convert(Type.STRING);
+
+            reserve(row);
+            mark(row);
+
+            this.strings[row] = value;
+        }
+
+        /**
+         * Marks a row as non-null.
+         *
+         * @param row the row to mark
+         */
+        private void mark(int row) {
+            this.present[row >>> 6] |= 1L << row;
+        }
+
+        /**
+         * Converts this column to hold a value of the provided type, converting
+         * any existing values when the type of the column has to change.
+         *
+         * @param incoming the type of the value being set
+         * @return the type of the column after conversion
+         */
+        private Type convert(Type incoming) {
+            Type current = this.type;
+
+            // no conversion needed
+            if (current == incoming) {
+                return current;
+            }
+
+            // first value sets the type
+            if (current == Type.NULL) {
+                allocate(incoming);
+                return this.type = incoming;
+            }
+
+            // doubles can hold longs
+            if (current == Type.DOUBLE && incoming == Type.LONG) {
+                return current;
+            }
+
+            // longs widen to doubles
+            if (current == Type.LONG && incoming == Type.DOUBLE) {
+                allocate(Type.DOUBLE);
+                for (int i = 0; i < this.capacity; i++) {
+                    this.doubles[i] = this.longs[i];
+                }
+                // every existing value is integral
+                this.integers = Arrays.copyOf(this.present, words(this.capacity));
+                return this.type = Type.DOUBLE;
+            }
+
+            // everything else is mixed
+            allocate(Type.STRING);
+            for (int i = 0; i < this.capacity; i++) {
+                if (isNull(i)) {
+                    continue;
+                }
+                switch (current) {
+                    case BOOLEAN:
+                        this.strings[i] = String.valueOf((this.booleans[i >>> 6] & (1L << i)) != 0);
+                        break;
+                    case LONG:
+                        this.strings[i] = String.valueOf(this.longs[i]);
+                        break;
+                    case DOUBLE:
+                        if (this.integers != null && (this.integers[i >>> 6] & (1L << i)) != 0) {
+                            this.strings[i] = String.valueOf(this.longs[i]);
+                        } else {
+                            this.strings[i] = String.valueOf(this.doubles[i]);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return this.type = Type.STRING;
+        }
+
+        /**
+         * Allocates the buffer for a type, sized to the current capacity.
+         *
+         * @param type the type to allocate for
+         */
+        private void allocate(Type type) {
+            int size = Math.max(this.capacity, 16);
+            switch (type) {
+                case BOOLEAN:
+                    if (this.booleans == null || this.booleans.length < words(size)) {
+                        this.booleans = new long[words(size)];
+                    }
+                    break;
+                case LONG:
+                    if (this.longs == null || this.longs.length < size) {
+                        this.longs = new long[size];
+                    }
+                    break;
+                case DOUBLE:
+                    if (this.doubles == null || this.doubles.length < size) {
+                        this.doubles = new double[size];
+                    }
+                    break;
+                case STRING:
+                    if (this.strings == null || this.strings.length < size) {
+                        this.strings = new String[size];
+                    }
+                    break;
+                default:
+                    break;
+            }
+            this.capacity = size;
+        }
+
+        /**
+         * Ensures the buffers of this column can hold the provided row.
+         *
+         * @param row the row to hold
+         */
+        private void reserve(int row) {
+            int words = words(row + 1);
+
+            // grow the null bitmap
+            if (words > this.present.length) {
+                this.present = Arrays.copyOf(this.present, Math.max(words, this.present.length << 1));
+            }
+
+            // no values yet, or enough space
+            if (this.type == Type.NULL || row < this.capacity) {
+                return;
+            }
+
+            int size = Math.max(row + 1, this.capacity << 1);
+
+            switch (this.type) {
+                case BOOLEAN:
+                    if (this.booleans.length < words(size)) {
+                        this.booleans = Arrays.copyOf(this.booleans, words(size));
+                    }
+                    break;
+                case LONG:
+                    if (this.longs.length < size) {
+                        this.longs = Arrays.copyOf(this.longs, size);
+                    }
+                    break;
+                case DOUBLE:
+                    if (this.doubles.length < size) {
+                        this.doubles = Arrays.copyOf(this.doubles, size);
+                    }
+                    if (this.integers != null) {
+                        if (this.longs.length < size) {
+                            this.longs = Arrays.copyOf(this.longs, size);
+                        }
+                        if (this.integers.length < words(size)) {
+                            this.integers = Arrays.copyOf(this.integers, words(size));
+                        }
+                    }
+                    break;
+                default:
+                    if (this.strings.length < size) {
+                        this.strings = Arrays.copyOf(this.strings, size);
+                    }
+                    break;
+            }
+
+            this.capacity = size;
+        }
+
+        /**
+         * Returns the number of bitmap words required to hold a number of rows.
+         *
+         * @param rows the number of rows
+         * @return the number of words
+         */
+        private static int words(int rows) {
+            return (rows + 63) >>> 6;
+        }
+    }
+
+    /**
+     * A single node in the tree of keys seen so far.
+     */
+    private static final class Node {
+
+        /**
+         * The path to this node, or null at the root.
+         */
+        final String path;
+
+        /**
+         * The children of this node keyed by field name, if any.
+         */
+        Map<String, Node> fields;
+
+        /**
+         * The children of this node keyed by index, if any.
+         */
+        Node[] indices;
+
+        /**
+         * The column of values at this node, if any.
+         */
+        Column column;
+
+        /**
+         * Creates a new node.
+         *
+         * @param path the path to the node
+         */
+        Node(String path) {
+            this.path = path;
+        }
+
+        /**
+         * Locates the child for a field name, creating it if needed.
+         *
+         * @param name the field name
+         * @return the child ${@link Node}
+         */
+        Node field(String name) {
+            if (this.fields == null) {
+                this.fields = new HashMap<>();
+            }
+
+            Node child = this.fields.get(name);
+
+            if (child == null) {
+                this.fields.put(name, child = new Node(join(NotedKey.of(name))));
+            }
+
+            return child;
+        }
+
+        /**
+         * Locates the child for an index, creating it if needed.
+         *
+         * @param index the index
+         * @return the child ${@link Node}
+         */
+        Node index(int index) {
+            if (this.indices == null) {
+                this.indices = new Node[Math.max(4, index + 1)];
+            } else if (index >= this.indices.length) {
+                this.indices = Arrays.copyOf(this.indices, Math.max(index + 1, this.indices.length << 1));
+            }
+
+            Node child = this.indices[index];
+
+            if (child == null) {
+                child = this.indices[index] = new Node(join(NotedKey.of(index)));
+            }
+
+            return child;
+        }
+
+        /**
+         * Joins a key onto the path of this node.
+         *
+         * @param key the key to join
+         * @return the joined path
+         */
+        private String join(NotedKey key) {
+            return DotUtils.join(this.path == null ? "" : this.path, key);
+        }
+    }
+}
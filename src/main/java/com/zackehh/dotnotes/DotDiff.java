@@ -0,0 +1,469 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A structural diff of two ${@link JsonNode} trees, reporting every leaf which has been
+ * added, removed or changed as a dot-noted path. The reported changes are exactly those
+ * found by comparing the results of ${@link DotNotes#flatten(JsonNode)} on both trees,
+ * with paths escaped in the same way.
+ *
+ * Rather than flattening, both trees are walked in lockstep using an explicit stack. Any
+ * pair of subtrees which are the same instance is skipped without being walked, so diffing
+ * a tree against a modified copy which shares unchanged subtrees only costs as much as the
+ * changed regions. Subtrees which only exist on one side are walked to report their leaves.
+ */
+public class DotDiff {
+
+    /**
+     * This class is designed to be used statically - if someone manages
+     * to get at it with Reflection, throw an Exception so they stop being
+     * stupid.
+     */
+    private DotDiff() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Diffs two container nodes, returning a List of all changes.
+     *
+     * @param before the original node
+     * @param after the modified node
+     * @return a List of ${@link Change}s, in document order
+     * @see #diff(JsonNode, JsonNode, Handler)
+     */
+    public static List<Change> diff(JsonNode before, JsonNode after) {
+        final List<Change> changes = new ArrayList<>();
+
+        diff(before, after, new Handler() {
+            @Override
+            public void change(Change change) {
+                changes.add(change);
+            }
+        });
+
+        return changes;
+    }
+
+    /**
+     * Diffs two container nodes, emitting all changes to the provided handler. Changes
+     * are emitted in the field order of the original node, followed by any fields which
+     * only exist in the modified node.
+     *
+     * @param before the original node
+     * @param after the modified node
+     * @param handler the handler to emit changes to
+     */
+    public static void diff(JsonNode before, JsonNode after, final Handler handler) {
+        // ensure these are valid container nodes
+        if (before == null || after == null || !before.isContainerNode() || !after.isContainerNode()) {
+            throw new IllegalArgumentException("Non-object provided to `diff`!");
+        }
+
+        // shared path buffer
+        PathBuffer path = new PathBuffer();
+
+        // shared walker for one-sided subtrees
+        NodeWalker walker = new NodeWalker();
+
+        // containers of different types share no paths
+        if (before.isObject() != after.isObject()) {
+            leaves(walker, Type.REMOVED, before, path, handler);
+            leaves(walker, Type.ADDED, after, path, handler);
+            return;
+        }
+
+        Frame[] frames = new Frame[16];
+
+        int depth = 0;
+
+        // open the root pair
+        if (before != after) {
+            frames = push(frames, depth++, before, after, 0);
+        }
+
+        while (depth > 0) {
+            Frame frame = frames[depth - 1];
+
+            // close exhausted pairs
+            if (!frame.advance()) {
+                frame.clear();
+                depth--;
+                continue;
+            }
+
+            NotedKey key = frame.key;
+            JsonNode left = frame.left;
+            JsonNode right = frame.right;
+
+            // unchanged instances cost nothing
+            if (left == right) {
+                continue;
+            }
+
+            // reset back to the container path
+            path.setLength(frame.length);
+            path.append(key);
+
+            // one-sided subtrees
+            if (left == null) {
+                leaves(walker, Type.ADDED, right, path, handler);
+                continue;
+            }
+            if (right == null) {
+                leaves(walker, Type.REMOVED, left, path, handler);
+                continue;
+            }
+
+            // matching containers, another nest
+            if (left.isContainerNode() && right.isContainerNode() && left.isObject() == right.isObject()) {
+                frames = push(frames, depth++, left, right, path.length());
+                continue;
+            }
+
+            // changed leaves
+            if (left.isValueNode() && right.isValueNode()) {
+                if (!left.equals(right)) {
+                    handler.change(new Change(Type.CHANGED, path.toString(), left, right));
+                }
+                continue;
+            }
+
+            // mismatched types share no paths
+            leaves(walker, Type.REMOVED, left, path, handler);
+            leaves(walker, Type.ADDED, right, path, handler);
+        }
+    }
+
+    /**
+     * Emits every leaf of a one-sided node as a change of the provided type.
+     *
+     * @param walker the walker to use for containers
+     * @param type the type of change
+     * @param node the node to emit the leaves of
+     * @param path the path to the node
+     * @param handler the handler to emit changes to
+     */
+    private static void leaves(NodeWalker walker, final Type type, JsonNode node, CharSequence path, final Handler handler) {
+        if (!node.isContainerNode()) {
+            emit(type, path.toString(), node, handler);
+            return;
+        }
+
+        walker.walk(node, path.toString(), true, new NodeWalker.Visitor() {
+            @Override
+            public void visit(NotedKey key, JsonNode value, CharSequence path) {
+                emit(type, path.toString(), value, handler);
+            }
+        });
+    }
+
+    /**
+     * Emits a one-sided change to a handler.
+     *
+     * @param type the type of change
+     * @param path the path of the change
+     * @param value the value which was added or removed
+     * @param handler the handler to emit to
+     */
+    private static void emit(Type type, String path, JsonNode value, Handler handler) {
+        if (type == Type.ADDED) {
+            handler.change(new Change(type, path, null, value));
+        } else {
+            handler.change(new Change(type, path, value, null));
+        }
+    }
+
+    /**
+     * Opens a pair of containers at the provided depth, reusing any frame
+     * which was previously used at the same depth.
+     *
+     * @param frames the stack of frames
+     * @param depth the depth of the pair
+     * @param left the original container
+     * @param right the modified container
+     * @param length the length of the path to the pair
+     * @return the stack of frames, which may have grown
+     */
+    private static Frame[] push(Frame[] frames, int depth, JsonNode left, JsonNode right, int length) {
+        // grow when necessary
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth << 1);
+        }
+
+        Frame frame = frames[depth];
+
+        if (frame == null) {
+            frame = frames[depth] = new Frame();
+        }
+
+        frame.open(left, right, length);
+
+        return frames;
+    }
+
+    /**
+     * The types of change which can be reported.
+     */
+    public enum Type {
+        /**
+         * A leaf which only exists in the modified node.
+         */
+        ADDED,
+
+        /**
+         * A leaf which only exists in the original node.
+         */
+        REMOVED,
+
+        /**
+         * A leaf which exists in both nodes with different values.
+         */
+        CHANGED
+    }
+
+    /**
+     * A single change to a leaf.
+     */
+    public static final class Change {
+
+        /**
+         * The type of the change.
+         */
+        private final Type type;
+
+        /**
+         * The path of the changed leaf.
+         */
+        private final String path;
+
+        /**
+         * The original value, if any.
+         */
+        private final JsonNode before;
+
+        /**
+         * The modified value, if any.
+         */
+        private final JsonNode after;
+
+        /**
+         * Creates a new change.
+         *
+         * @param type the type of the change
+         * @param path the path of the changed leaf
+         * @param before the original value, or null
+         * @param after the modified value, or null
+         */
+        Change(Type type, String path, JsonNode before, JsonNode after) {
+            this.type = type;
+            this.path = path;
+            this.before = before;
+            this.after = after;
+        }
+
+        /**
+         * Returns the type of this change.
+         *
+         * @return the change ${@link Type}
+         */
+        public Type type() {
+            return this.type;
+        }
+
+        /**
+         * Returns the dot-noted path of the changed leaf.
+         *
+         * @return the path String
+         */
+        public String path() {
+            return this.path;
+        }
+
+        /**
+         * Returns the original value, or null if the leaf was added.
+         *
+         * @return the original ${@link JsonNode}
+         */
+        public JsonNode before() {
+            return this.before;
+        }
+
+        /**
+         * Returns the modified value, or null if the leaf was removed.
+         *
+         * @return the modified ${@link JsonNode}
+         */
+        public JsonNode after() {
+            return this.after;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public String toString() {
+            return this.type + " " + this.path + ": " + this.before + " -> " + this.after;
+        }
+    }
+
+    /**
+     * Receives each change found during a diff.
+     */
+    public interface Handler {
+        /**
+         * Receives a single change.
+         *
+         * @param change the ${@link Change} found
+         */
+        void change(Change change);
+    }
+
+    /**
+     * A single level of the lockstep traversal stack.
+     */
+    private static final class Frame {
+
+        /**
+         * The fields of the original object.
+         */
+        Iterator<Map.Entry<String, JsonNode>> fields;
+
+        /**
+         * The fields of the modified object, once the original fields are exhausted.
+         */
+        Iterator<Map.Entry<String, JsonNode>> added;
+
+        /**
+         * The original container.
+         */
+        JsonNode before;
+
+        /**
+         * The modified container.
+         */
+        JsonNode after;
+
+        /**
+         * The next index of an array pair.
+         */
+        int index;
+
+        /**
+         * The larger size of an array pair.
+         */
+        int size;
+
+        /**
+         * The length of the path to this pair.
+         */
+        int length;
+
+        /**
+         * The key of the current child pair.
+         */
+        NotedKey key;
+
+        /**
+         * The original value of the current child pair, or null.
+         */
+        JsonNode left;
+
+        /**
+         * The modified value of the current child pair, or null.
+         */
+        JsonNode right;
+
+        /**
+         * Opens this frame against a pair of containers of the same type.
+         *
+         * @param before the original container
+         * @param after the modified container
+         * @param length the length of the path to the pair
+         */
+        void open(JsonNode before, JsonNode after, int length) {
+            this.before = before;
+            this.after = after;
+            this.length = length;
+            this.added = null;
+
+            if (before.isObject()) {
+                this.fields = before.fields();
+            } else {
+                this.fields = null;
+                this.index = 0;
+                this.size = Math.max(before.size(), after.size());
+            }
+        }
+
+        /**
+         * Moves on to the next child pair.
+         *
+         * @return true if there is a current child pair
+         */
+        boolean advance() {
+            // arrays pair up indices
+            if (this.fields == null && this.added == null) {
+                if (this.index == this.size) {
+                    return false;
+                }
+
+                this.key = NotedKey.of(this.index);
+                this.left = this.before.get(this.index);
+                this.right = this.after.get(this.index++);
+
+                return true;
+            }
+
+            // original fields, paired with the modified field
+            if (this.fields != null) {
+                if (this.fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = this.fields.next();
+
+                    this.key = NotedKey.of(field.getKey());
+                    this.left = field.getValue();
+                    this.right = this.after.get(field.getKey());
+
+                    return true;
+                }
+
+                this.fields = null;
+                this.added = this.after.fields();
+            }
+
+            // fields only in the modified object
+            while (this.added.hasNext()) {
+                Map.Entry<String, JsonNode> field = this.added.next();
+
+                if (this.before.has(field.getKey())) {
+                    continue;
+                }
+
+                this.key = NotedKey.of(field.getKey());
+                this.left = null;
+                this.right = field.getValue();
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Releases references held by this frame.
+         */
+        void clear() {
+            this.fields = null;
+            this.added = null;
+            this.before = null;
+            this.after = null;
+            this.key = null;
+            this.left = null;
+            this.right = null;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A compiled set of dot-noted paths which can be extracted from a stream of tokens,
+ * without building the document as a ${@link JsonNode}. This is intended for very large
+ * documents where only a handful of values are required.
+ *
+ * Tokens are read in document order, tracking the current path against the same prefix
+ * tree as a ${@link DotSelector}. Any subtree which cannot contain a path is skipped as a
+ * whole, and only the selected values themselves are read into trees. Reading stops as
+ * soon as every path has been resolved, so values near the start of a document can be
+ * extracted without reading the rest of it.
+ *
+ * Each path resolves to the same value as ${@link DotNotes#get(JsonNode, String)} against
+ * the whole document, with the exception of documents containing duplicate field names.
+ */
+public final class DotExtractor {
+
+    /**
+     * The mapper used to read selected values into trees.
+     */
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * The compiled selector of paths.
+     */
+    private final DotSelector selector;
+
+    /**
+     * Internal constructor, accepting a compiled selector.
+     *
+     * @param selector the compiled selector
+     */
+    private DotExtractor(DotSelector selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Compiles a set of dot-noted paths into a ${@link DotExtractor}. The result of
+     * each path is stored at the same index as the path when extracting.
+     *
+     * @param paths the paths to compile
+     * @return a compiled ${@link DotExtractor}
+     * @throws ParseException if any parsing issues occur
+     */
+    public static DotExtractor compile(String... paths) throws ParseException {
+        return new DotExtractor(DotSelector.compile(paths));
+    }
+
+    /**
+     * Returns the source path at the provided result index.
+     *
+     * @param index the result index
+     * @return the source path
+     */
+    public String path(int index) {
+        return this.selector.path(index);
+    }
+
+    /**
+     * Returns the number of paths inside this extractor.
+     *
+     * @return the number of paths
+     */
+    public int size() {
+        return this.selector.size();
+    }
+
+    /**
+     * Extracts all paths from a file, which is memory-mapped rather than read through
+     * a heap buffer. The file is mapped in windows, and reading stops as soon as every
+     * path has been resolved, so only the start of the file may ever be touched.
+     *
+     * @param file the file to extract from
+     * @return an array of results, in path order
+     * @throws IOException if the file fails to read
+     * @see #extract(JsonParser)
+     */
+    public JsonNode[] extract(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             JsonParser parser = mapper.getFactory().createParser(new MappedInputStream(channel))) {
+            return extract(parser);
+        }
+    }
+
+    /**
+     * Extracts all paths from a single value read from a ${@link JsonParser}, with the
+     * result of each path being stored at the same index as the path was compiled at.
+     * Paths which cannot be found are resolved to a ${@link MissingNode}.
+     *
+     * The parser may either be positioned on the first token of the value, or before it.
+     * Once every path has been resolved, this method returns without reading any more
+     * tokens, so the parser may be left anywhere inside the value.
+     *
+     * @param parser the parser to read tokens from
+     * @return an array of results, in path order
+     * @throws IOException if the parser fails to read
+     */
+    public JsonNode[] extract(JsonParser parser) throws IOException {
+        JsonNode[] results = new JsonNode[this.selector.size()];
+
+        // move to the first token if needed
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+
+        // scalars contain nothing
+        if (token == null || !token.isStructStart()) {
+            Arrays.fill(results, MissingNode.getInstance());
+            return results;
+        }
+
+        // open branch at each level
+        @SuppressWarnings("unchecked")
+        KeyTrie<int[]>[] tries = (KeyTrie<int[]>[]) new KeyTrie<?>[16];
+
+        // next index at each level, or -1 for objects
+        int[] indices = new int[16];
+
+        // current nesting level
+        int depth = 0;
+
+        tries[0] = this.selector.root;
+        indices[0] = token == JsonToken.START_ARRAY ? 0 : -1;
+
+        int remaining = results.length;
+
+        while (remaining > 0) {
+            token = parser.nextToken();
+
+            // truncated input
+            if (token == null) {
+                break;
+            }
+
+            // move back up a level, nothing else can be found there
+            if (token.isStructEnd()) {
+                remaining -= settle(tries[depth], results);
+                tries[depth] = null;
+                if (--depth < 0) {
+                    break;
+                }
+                continue;
+            }
+
+            KeyTrie<int[]> trie = tries[depth];
+            KeyTrie<int[]> child;
+
+            // locate the branch of this value
+            if (token == JsonToken.FIELD_NAME) {
+                child = trie.fields == null ? null : trie.fields.get(parser.getCurrentName());
+                token = parser.nextToken();
+            } else {
+                int index = indices[depth]++;
+                child = trie.indices == null ? null : trie.indices.get(index);
+            }
+
+            // nothing beneath, skip it
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            // selected values and dead ends are resolved against a tree
+            if (child.terminal || !token.isStructStart()) {
+                remaining -= unresolved(child, results);
+                this.selector.resolve(child, mapper.readTree(parser), results, null);
+                continue;
+            }
+
+            // grow when necessary
+            if (++depth == tries.length) {
+                tries = Arrays.copyOf(tries, depth << 1);
+                indices = Arrays.copyOf(indices, depth << 1);
+            }
+
+            tries[depth] = child;
+            indices[depth] = token == JsonToken.START_ARRAY ? 0 : -1;
+        }
+
+        // anything left was never found
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = MissingNode.getInstance();
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Counts the number of unresolved results at and beneath a branch. Resolving a
+     * branch against a value fills every result beneath it, so this is the number of
+     * results which will be resolved.
+     *
+     * @param trie the branch to count
+     * @param results the results to check
+     * @return the number of unresolved results
+     */
+    private static int unresolved(KeyTrie<int[]> trie, JsonNode[] results) {
+        int count = 0;
+
+        if (trie.terminal) {
+            for (int target : trie.value) {
+                if (results[target] == null) {
+                    count++;
+                }
+            }
+        }
+        if (trie.fields != null) {
+            for (KeyTrie<int[]> child : trie.fields.values()) {
+                count += unresolved(child, results);
+            }
+        }
+        if (trie.indices != null) {
+            for (KeyTrie<int[]> child : trie.indices.values()) {
+                count += unresolved(child, results);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Resolves any unresolved results beneath a closed branch to a ${@link MissingNode},
+     * as the container matching the branch has been read entirely.
+     *
+     * @param trie the branch which was closed
+     * @param results the results to store into
+     * @return the number of results resolved
+     */
+    private static int settle(KeyTrie<int[]> trie, JsonNode[] results) {
+        int settled = 0;
+
+        if (trie.fields != null) {
+            for (KeyTrie<int[]> child : trie.fields.values()) {
+                settled += settleChild(child, results);
+            }
+        }
+        if (trie.indices != null) {
+            for (KeyTrie<int[]> child : trie.indices.values()) {
+                settled += settleChild(child, results);
+            }
+        }
+
+        return settled;
+    }
+
+    /**
+     * Resolves any unresolved results at and beneath a branch to a ${@link MissingNode}.
+     *
+     * @param trie the branch to resolve
+     * @param results the results to store into
+     * @return the number of results resolved
+     */
+    private static int settleChild(KeyTrie<int[]> trie, JsonNode[] results) {
+        int settled = 0;
+
+        if (trie.terminal) {
+            for (int target : trie.value) {
+                if (results[target] == null) {
+                    results[target] = MissingNode.getInstance();
+                    settled++;
+                }
+            }
+        }
+
+        return settled + settle(trie, results);
+    }
+}
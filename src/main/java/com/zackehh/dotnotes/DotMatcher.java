@@ -0,0 +1,450 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled dot-noted pattern which can be matched against a ${@link JsonNode}. On top
+ * of the grammar accepted by ${@link DotNotes#keys(String)}, a pattern may contain the
+ * following segments:
+ *
+ * - `*` or `[*]`, matching every child of an object or array.
+ * - `..key`, `..*` or `..[0]`, matching the segment at any depth below the current node.
+ *
+ * As an example, `items[*].price` matches the price of every item, and `..sku` matches
+ * every sku field anywhere in a document.
+ *
+ * Matching walks only the branches which can still match the pattern. Named and indexed
+ * segments are looked up directly, and only wildcards and descents move through all the
+ * children of a node. The walk uses an explicit stack, so deep documents are safe.
+ *
+ * Matches are emitted in document order. Note that a pattern containing more than one
+ * descent can reach the same node in more than one way, in which case it is emitted once
+ * for each way it is reached.
+ */
+public final class DotMatcher {
+
+    /**
+     * The source pattern.
+     */
+    private final String pattern;
+
+    /**
+     * The compiled segments of the pattern.
+     */
+    final Step[] steps;
+
+    /**
+     * Internal constructor, accepting the source pattern and compiled segments.
+     *
+     * @param pattern the source pattern
+     * @param steps the compiled segments
+     */
+    private DotMatcher(String pattern, Step[] steps) {
+        this.pattern = pattern;
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles a dot-noted pattern into a ${@link DotMatcher}.
+     *
+     * @param pattern the pattern to compile
+     * @return a compiled ${@link DotMatcher}
+     * @throws ParseException if any parsing issues occur
+     */
+    public static DotMatcher compile(String pattern) throws ParseException {
+        KeyScanner scanner = new KeyScanner(pattern, true);
+
+        // most patterns are shallow
+        Step[] steps = new Step[8];
+
+        int count = 0;
+
+        while (scanner.hasNext()) {
+            // grow when necessary
+            if (count == steps.length) {
+                steps = Arrays.copyOf(steps, count << 1);
+            }
+            NotedKey key = scanner.next();
+            steps[count++] = new Step(key, scanner.isDescent());
+        }
+
+        return new DotMatcher(pattern, Arrays.copyOf(steps, count));
+    }
+
+    /**
+     * Finds all values matching this pattern inside a ${@link JsonNode}.
+     *
+     * @param node the node to match against
+     * @return a List of matching values, in document order
+     */
+    public List<JsonNode> find(JsonNode node) {
+        final List<JsonNode> results = new ArrayList<>();
+
+        match(node, new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                results.add(value);
+            }
+
+            @Override
+            protected boolean requirePathGeneration() {
+                return false;
+            }
+        });
+
+        return results;
+    }
+
+    /**
+     * A small wrapper to ${@link #match(JsonNode, DotNotes.NodeIterator, String)} to allow
+     * omitting a third parameter, passing null instead.
+     *
+     * @param node the node to pass
+     * @param handler the handler to pass
+     */
+    public void match(JsonNode node, DotNotes.NodeIterator handler) {
+        match(node, handler, null);
+    }
+
+    /**
+     * Matches this pattern against a ${@link JsonNode}, emitting every matching value
+     * to the ${@link DotNotes.NodeIterator#execute(NotedKey, JsonNode, String)} method
+     * of a provided handler. Unlike ${@link DotNotes#recurse(JsonNode, DotNotes.NodeIterator)},
+     * matching values may be containers, and paths are generated in the same form.
+     *
+     * @param node the node to match against
+     * @param handler the handler to emit to
+     * @param start the starting prefix String, if any
+     */
+    public void match(JsonNode node, DotNotes.NodeIterator handler, String start) {
+        // nothing can match a scalar
+        if (node == null || !node.isContainerNode()) {
+            return;
+        }
+
+        boolean paths = handler.requirePathGeneration();
+
+        PathBuffer path = new PathBuffer();
+
+        // prefixes should default
+        if (start != null) {
+            path.append(start);
+        }
+
+        Frame[] frames = new Frame[16];
+
+        // open the root container
+        int depth = 0;
+        frames = push(frames, depth++, node, 0, path.length());
+
+        while (depth > 0) {
+            Frame frame = frames[depth - 1];
+
+            // a descent deferred behind a match
+            if (frame.deferred != null) {
+                path.setLength(frame.length);
+
+                if (paths) {
+                    path.append(frame.deferredKey);
+                }
+
+                JsonNode deferred = frame.deferred;
+
+                frame.deferred = null;
+                frame.deferredKey = null;
+
+                frames = push(frames, depth++, deferred, frame.step, path.length());
+                continue;
+            }
+
+            // close exhausted containers
+            if (!frame.advance()) {
+                frame.clear();
+                depth--;
+                continue;
+            }
+
+            NotedKey key = frame.key;
+            JsonNode value = frame.value;
+
+            Step step = this.steps[frame.step];
+
+            // reset back to the container path
+            path.setLength(frame.length);
+
+            if (paths) {
+                path.append(key);
+            }
+
+            boolean descend = step.descent && value.isContainerNode();
+
+            // check the segment against the key
+            if (step.key == null || step.key.equals(key)) {
+                // the last segment, so emit
+                if (frame.step + 1 == this.steps.length) {
+                    handler.visit(key, value, path);
+                }
+                // match the rest of the pattern, then any descent
+                else if (value.isContainerNode()) {
+                    if (descend) {
+                        frame.deferred = value;
+                        frame.deferredKey = key;
+                    }
+                    frames = push(frames, depth++, value, frame.step + 1, path.length());
+                    continue;
+                }
+            }
+
+            // keep looking for the segment further down
+            if (descend) {
+                frames = push(frames, depth++, value, frame.step, path.length());
+            }
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    /**
+     * Opens a container at the provided depth, reusing any frame which was
+     * previously used at the same depth.
+     *
+     * @param frames the stack of frames
+     * @param depth the depth of the container
+     * @param node the container node
+     * @param step the index of the segment to match against the children
+     * @param length the length of the path to the container
+     * @return the stack of frames, which may have grown
+     */
+    private Frame[] push(Frame[] frames, int depth, JsonNode node, int step, int length) {
+        // grow when necessary
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth << 1);
+        }
+
+        Frame frame = frames[depth];
+
+        if (frame == null) {
+            frame = frames[depth] = new Frame();
+        }
+
+        frame.open(node, this.steps[step], step, length);
+
+        return frames;
+    }
+
+    /**
+     * A single compiled segment of a pattern.
+     */
+    static final class Step {
+
+        /**
+         * The key to match, or null for a wildcard.
+         */
+        final NotedKey key;
+
+        /**
+         * Whether the key may be matched at any depth.
+         */
+        final boolean descent;
+
+        /**
+         * Creates a new segment.
+         *
+         * @param key the key to match, or null
+         * @param descent whether the key may be matched at any depth
+         */
+        Step(NotedKey key, boolean descent) {
+            this.key = key;
+            this.descent = descent;
+        }
+
+        /**
+         * Determines whether this segment matches a field name.
+         *
+         * @param name the field name to check
+         * @return true if the segment matches
+         */
+        boolean matches(String name) {
+            return this.key == null || (this.key.isString() && this.key.asString().equals(name));
+        }
+
+        /**
+         * Determines whether this segment matches an array index.
+         *
+         * @param index the array index to check
+         * @return true if the segment matches
+         */
+        boolean matches(int index) {
+            return this.key == null || (this.key.isNumber() && this.key.asInt() == index);
+        }
+    }
+
+    /**
+     * A single level of the matching stack.
+     */
+    private static final class Frame {
+
+        /**
+         * The remaining fields of an object container, when visiting all children.
+         */
+        Iterator<Map.Entry<String, JsonNode>> fields;
+
+        /**
+         * The next index of an array container, when visiting all children.
+         */
+        int index;
+
+        /**
+         * The size of an array container, or -1 for a direct lookup.
+         */
+        int size;
+
+        /**
+         * The key of a direct lookup, or null once it has been visited.
+         */
+        NotedKey lookup;
+
+        /**
+         * The container node itself.
+         */
+        JsonNode node;
+
+        /**
+         * The index of the segment matched against the children.
+         */
+        int step;
+
+        /**
+         * The length of the path to this container.
+         */
+        int length;
+
+        /**
+         * The key of the current child.
+         */
+        NotedKey key;
+
+        /**
+         * The value of the current child.
+         */
+        JsonNode value;
+
+        /**
+         * A child to descend into once the current match has been walked.
+         */
+        JsonNode deferred;
+
+        /**
+         * The key of the deferred child.
+         */
+        NotedKey deferredKey;
+
+        /**
+         * Opens this frame against a container.
+         *
+         * @param node the container node
+         * @param step the segment to match against the children
+         * @param index the index of the segment
+         * @param length the length of the path to the container
+         */
+        void open(JsonNode node, Step step, int index, int length) {
+            this.node = node;
+            this.step = index;
+            this.length = length;
+            this.fields = null;
+            this.lookup = null;
+            this.index = 0;
+            this.size = -1;
+
+            // named and indexed segments only need a single lookup
+            if (step.key != null && !step.descent) {
+                this.lookup = step.key;
+                return;
+            }
+
+            if (node.isObject()) {
+                this.fields = node.fields();
+            } else {
+                this.size = node.size();
+            }
+        }
+
+        /**
+         * Moves on to the next child of the container.
+         *
+         * @return true if there is a current child
+         */
+        boolean advance() {
+            if (this.fields != null) {
+                if (!this.fields.hasNext()) {
+                    return false;
+                }
+
+                Map.Entry<String, JsonNode> field = this.fields.next();
+
+                this.key = NotedKey.of(field.getKey());
+                this.value = field.getValue();
+
+                return true;
+            }
+
+            if (this.size >= 0) {
+                if (this.index == this.size) {
+                    return false;
+                }
+
+                this.key = NotedKey.of(this.index);
+                this.value = this.node.get(this.index++);
+
+                return true;
+            }
+
+            NotedKey lookup = this.lookup;
+
+            // only a single lookup per frame
+            if (lookup == null) {
+                return false;
+            }
+
+            this.lookup = null;
+
+            // keys must match the container type
+            if (lookup.isNumber() ? !this.node.isArray() : !this.node.isObject()) {
+                return false;
+            }
+
+            JsonNode value = lookup.isNumber()
+                    ? this.node.get(lookup.asInt())
+                    : this.node.get(lookup.asString());
+
+            if (value == null) {
+                return false;
+            }
+
+            this.key = lookup;
+            this.value = value;
+
+            return true;
+        }
+
+        /**
+         * Releases references held by this frame.
+         */
+        void clear() {
+            this.fields = null;
+            this.node = null;
+            this.key = null;
+            this.value = null;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.zackehh.dotnotes;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import static com.zackehh.dotnotes.DotUtils.firstMatch;
-import static com.zackehh.dotnotes.DotUtils.matches;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The public access for DotNotes. This class allows for manipulation
@@ -23,6 +27,11 @@ public class DotNotes {
      */
     private static final JsonNodeFactory factory = JsonNodeFactory.instance;
 
+    /**
+     * An optional ${@link KeyCache} used to avoid parsing repeated paths.
+     */
+    private static volatile KeyCache cache;
+
     /**
      * This class is designed to be used statically - if someone manages
      * to get at it with Reflection, throw an Exception so they stop being
@@ -44,59 +53,120 @@ public class DotNotes {
      * @throws ParseException if any parsing issues occur
      */
     public static JsonNode create(JsonNode target, String path, JsonNode value) throws ParseException {
-        // parse the path into a List of keys
-        List<NotedKey> keys = keys(path);
+        // create using the parsed keys
+        return DotUtils.createPath(target, parse(path), value);
+    }
+
+    /**
+     * Creates many values in a tree at once, using a Map of dot-noted paths to values. Every
+     * path is parsed exactly once and merged with any others sharing a prefix, so each shared
+     * container is located (or created) only once. This is equivalent to calling
+     * ${@link #create(JsonNode, String, JsonNode)} for each entry, in ascending index order
+     * for any arrays.
+     *
+     * @param target the target ${@link JsonNode} to create into
+     * @param values the Map of paths to values
+     * @return the ${@link JsonNode} after key creation
+     * @throws ParseException if any parsing issues occur
+     */
+    public static JsonNode create(JsonNode target, Map<String, JsonNode> values) throws ParseException {
+        // merge all paths together
+        KeyTrie<JsonNode> root = new KeyTrie<>();
+
+        for (Map.Entry<String, JsonNode> entry : values.entrySet()) {
+            root.insert(parse(entry.getKey())).value = entry.getValue();
+        }
 
-        // grab first key
-        NotedKey first = keys.get(0);
+        // nothing to create
+        if (!root.isBranch()) {
+            return target;
+        }
 
         // check null target
         if (target == null) {
-            target = first.isNumber() ? factory.arrayNode() : factory.objectNode();
+            target = root.indices != null ? factory.arrayNode() : factory.objectNode();
         }
 
+        // create from the root
+        create(target, root);
+
+        // return the target
+        return target;
+    }
+
+    /**
+     * Internal implementation of batch creation, applying a branch of a ${@link KeyTrie}
+     * to an existing container and creating any missing containers beneath it.
+     *
+     * @param container the container to create into
+     * @param trie the branch to apply
+     * @throws ParseException if the container does not match the branch
+     */
+    private static void create(JsonNode container, KeyTrie<JsonNode> trie) throws ParseException {
         // check correct array type
-        if (first.isNumber() && !target.isArray()) {
+        if (trie.indices != null && !container.isArray()) {
             throw new ParseException("Expected ArrayNode target for create call!");
         }
 
         // check correct object type
-        if (first.isString() && !target.isObject()) {
+        if (trie.fields != null && !container.isObject()) {
             throw new ParseException("Expected ObjectNode target for create call!");
         }
 
-        // store a temporary reference
-        JsonNode tmp = target;
+        if (trie.indices != null) {
+            ArrayNode array = (ArrayNode) container;
 
-        // grab length
-        int lastIndex = keys.size() - 1;
+            for (Map.Entry<Integer, KeyTrie<JsonNode>> index : trie.indices.entrySet()) {
+                int num = index.getKey();
 
-        // iterate through all keys (except the last)
-        for(int i = 0; i < lastIndex; i++) {
+                // resolve the value to place
+                JsonNode value = createChild(array.path(num), index.getValue());
 
-            // grab the current key
-            NotedKey key = keys.get(i);
-
-            // store a MissingNode instance
-            JsonNode local = DotUtils.findNode(tmp, key);
+                // append past the end, as with DotUtils.set
+                if (num >= array.size()) {
+                    array.add(value);
+                } else {
+                    array.set(num, value);
+                }
+            }
+        } else {
+            ObjectNode object = (ObjectNode) container;
 
-            // if we're dealing with a MissingNode
-            if (local.isMissingNode()) {
-                // set it to either an ObjectNode or an ArrayNode, based on the nextKey
-                DotUtils.set(tmp, key, keys.get(i + 1).isNumber() ? factory.arrayNode() : factory.objectNode());
+            for (Map.Entry<String, KeyTrie<JsonNode>> field : trie.fields.entrySet()) {
+                object.set(field.getKey(), createChild(object.path(field.getKey()), field.getValue()));
             }
+        }
+    }
 
-            tmp = DotUtils.findNode(tmp, key);
+    /**
+     * Resolves the value to place for a child inside a ${@link KeyTrie}, which is
+     * either the value stored against the child, or a container with the child
+     * applied to it.
+     *
+     * @param existing the existing value for the child
+     * @param child the child to resolve
+     * @return the resolved ${@link JsonNode}
+     * @throws ParseException if the child is invalid
+     */
+    private static JsonNode createChild(JsonNode existing, KeyTrie<JsonNode> child) throws ParseException {
+        // check for conflicting values
+        if (child.terminal && child.isBranch()) {
+            throw new ParseException("Unable to create both a value and keys at the same path!");
         }
 
-        // grab the last key to process
-        NotedKey endKey = keys.get(lastIndex);
+        // values are placed directly
+        if (child.terminal) {
+            return child.value;
+        }
 
-        // set the value to the final key
-        DotUtils.set(tmp, endKey, value);
+        // create missing containers
+        if (existing.isMissingNode()) {
+            existing = child.indices != null ? factory.arrayNode() : factory.objectNode();
+        }
 
-        // return the target
-        return target;
+        create(existing, child);
+
+        return existing;
     }
 
     /**
@@ -114,21 +184,27 @@ public class DotNotes {
             throw new ParseException("Unexpected non-string value provided!");
         }
 
-        // quick number checking
-        if (key.isNumber()) {
-            return "[" + key.asNumber() + "]";
-        }
-
-        // store key as a String
-        String input = key.asString();
+        // escape once per key instance
+        return key.escaped();
+    }
 
-        // if it's not an accessor, return special key form
-        if (!DotUtils.matches(input, DotUtils.ACCESSOR)) {
-            return "[\"" + input.replace("\"", "\\\"") + "\"]";
+    /**
+     * Escapes a set of keys directly into a provided StringBuilder, joining them into a
+     * single dot-noted path. If the builder already contains a path, the keys are joined
+     * onto the end of it, in the same way as the prefix of ${@link #recurse(JsonNode, NodeIterator, String)}.
+     *
+     * @param keys the keys to escape
+     * @param builder the builder to append to
+     * @throws ParseException if any key is null
+     */
+    public static void escape(NotedKey[] keys, StringBuilder builder) throws ParseException {
+        for (NotedKey key : keys) {
+            // check null key
+            if (key == null) {
+                throw new ParseException("Unexpected non-string value provided!");
+            }
+            DotUtils.appendKey(builder, key);
         }
-
-        // return default
-        return input;
     }
 
     /**
@@ -156,10 +232,61 @@ public class DotNotes {
     }
 
     /**
-     * Uses a String path to create a List of keys in order to move
-     * through a nested ${@link JsonNode} in order to find a specific
-     * value. If the value is found, it is returned. If it can not be
-     * found, a ${@link MissingNode} will be returned.
+     * Flattens a ${@link JsonNode} into a Map of dot-noted paths to leaf values. The
+     * paths and ordering match those emitted by ${@link #recurse(JsonNode, NodeIterator)},
+     * and the returned Map is presized to hold every leaf without rehashing.
+     *
+     * @param node the node to flatten
+     * @return a Map of paths to values
+     */
+    public static Map<String, JsonNode> flatten(JsonNode node) {
+        // ensure this is a valid container node
+        if (node == null || !node.isContainerNode()) {
+            throw new IllegalArgumentException("Non-object provided to `flatten`!");
+        }
+
+        // count up front to avoid rehashing
+        int count = DotUtils.count(node);
+
+        // flatten into a presized map
+        return flatten(node, new LinkedHashMap<String, JsonNode>(count < 3 ? count + 1 : (int) (count / 0.75f + 1.0f)));
+    }
+
+    /**
+     * Flattens a ${@link JsonNode} into a provided Map of dot-noted paths to leaf values,
+     * allowing the caller to control the Map implementation being used.
+     *
+     * @param node the node to flatten
+     * @param target the Map to flatten into
+     * @return the provided target Map
+     */
+    public static <M extends Map<String, JsonNode>> M flatten(JsonNode node, final M target) {
+        // ensure this is a valid container node
+        if (node == null || !node.isContainerNode()) {
+            throw new IllegalArgumentException("Non-object provided to `flatten`!");
+        }
+
+        // walk every leaf using a single shared path
+        new NodeWalker().walk(node, "", true, new NodeWalker.Visitor() {
+            @Override
+            public void visit(NotedKey key, JsonNode value, CharSequence path) {
+                target.put(path.toString(), value);
+            }
+        });
+
+        // return the target
+        return target;
+    }
+
+    /**
+     * Uses a String path to move through a nested ${@link JsonNode} in
+     * order to find a specific value. If the value is found, it is returned.
+     * If it can not be found, a ${@link MissingNode} will be returned.
+     *
+     * Unless a ${@link KeyCache} is installed, the path is parsed one key at
+     * a time as the node is walked, so a lookup which hits a missing or null
+     * value returns immediately without parsing the rest of the path. In this
+     * case, parsing issues after the dead end are not reported.
      *
      * @param node the node to use for the search
      * @param path the path to find the value for
@@ -172,36 +299,144 @@ public class DotNotes {
             return MissingNode.getInstance();
         }
 
-        // create a list of keys from the path
-        List<NotedKey> keys = keys(path);
+        KeyCache local = cache;
 
-        // store a cheap reference
-        JsonNode tmp = node;
+        // walk using the cached keys
+        if (local != null) {
+            return DotUtils.findPath(node, local.compile(path).keys);
+        }
+
+        // walk whilst parsing
+        return DotUtils.findPath(node, new KeyScanner(path));
+    }
 
-        // grab length
-        int lastIndex = keys.size() - 1;
+    /**
+     * Variant of ${@link #get(JsonNode, String)} accepting any CharSequence, such as a
+     * ${@link Utf8Sequence}. Strings are passed through as usual, whilst any other
+     * CharSequence is scanned in place without first being converted into a String.
+     * As a ${@link KeyCache} is keyed by String, it is only used for String paths.
+     *
+     * @param node the node to use for the search
+     * @param path the path to find the value for
+     * @return a ${@link JsonNode} if found, a ${@link MissingNode} if not
+     * @throws ParseException if any parsing issues occur
+     */
+    public static JsonNode get(JsonNode node, CharSequence path) throws ParseException {
+        // Strings can use the cache
+        if (path instanceof String) {
+            return get(node, (String) path);
+        }
 
-        // go through every key we have (except the last)
-        for(int i = 0; i < lastIndex; i++) {
-            tmp = DotUtils.findNode(tmp, keys.get(i));
-            // if we've hit a dead end
-            if (tmp.isMissingNode() || tmp.isNull()) {
-                // short-circuit
-                return tmp;
+        // check for bad targets
+        if (node == null) {
+            return MissingNode.getInstance();
+        }
+
+        // walk whilst parsing
+        return DotUtils.findPath(node, new KeyScanner(path));
+    }
+
+    /**
+     * Variant of ${@link #get(JsonNode, String)} accepting a path as a range of UTF-8 bytes,
+     * which are read via a ${@link Utf8Sequence} rather than being decoded into a String.
+     *
+     * @param node the node to use for the search
+     * @param path the array holding the path bytes
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return a ${@link JsonNode} if found, a ${@link MissingNode} if not
+     * @throws ParseException if any parsing issues occur
+     */
+    public static JsonNode get(JsonNode node, byte[] path, int offset, int length) throws ParseException {
+        return get(node, Utf8Sequence.of(path, offset, length));
+    }
+
+    /**
+     * Returns the ${@link KeyCache} currently used to parse paths, if any.
+     *
+     * @return the installed ${@link KeyCache}, or null
+     */
+    public static KeyCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Inflates a Map of dot-noted paths to values into a new ${@link JsonNode}. Every
+     * path is parsed exactly once and merged with any others sharing a prefix, so each
+     * container in the result is only created once. This is equivalent to calling
+     * ${@link #create(JsonNode, String, JsonNode)} for each entry, in ascending index
+     * order for any arrays, without any of the repeated lookups.
+     *
+     * @param values the Map of paths to values
+     * @return a new ${@link JsonNode} containing all values
+     * @throws ParseException if any parsing issues occur
+     */
+    public static JsonNode inflate(Map<String, JsonNode> values) throws ParseException {
+        // merge all paths together
+        KeyTrie<JsonNode> root = new KeyTrie<>();
+
+        for (Map.Entry<String, JsonNode> entry : values.entrySet()) {
+            root.insert(parse(entry.getKey())).value = entry.getValue();
+        }
+
+        // nothing to inflate
+        if (!root.isBranch()) {
+            return factory.objectNode();
+        }
+
+        // build from the root
+        return inflate(root);
+    }
+
+    /**
+     * Internal implementation of inflation, building a single container
+     * for a branch of a ${@link KeyTrie} and all containers beneath it.
+     *
+     * @param trie the branch to build
+     * @return a new container ${@link JsonNode}
+     * @throws ParseException if the branch is invalid
+     */
+    private static JsonNode inflate(KeyTrie<JsonNode> trie) throws ParseException {
+        // check for mixed containers
+        if (trie.fields != null && trie.indices != null) {
+            throw new ParseException("Unable to inflate both indices and fields into the same container!");
+        }
+
+        // indices are filled in order, so presize
+        if (trie.indices != null) {
+            ArrayNode array = factory.arrayNode(trie.indices.size());
+
+            for (KeyTrie<JsonNode> child : trie.indices.values()) {
+                array.add(inflateChild(child));
             }
+
+            return array;
         }
 
-        // get the last key from the list
-        NotedKey key = keys.get(lastIndex);
+        // fields are filled in order of appearance
+        ObjectNode object = factory.objectNode();
 
-        // if the key is a Number
-        if (key.isNumber()) {
-            // return the ArrayNode index
-            return tmp.path(key.asNumber());
+        for (Map.Entry<String, KeyTrie<JsonNode>> field : trie.fields.entrySet()) {
+            object.set(field.getKey(), inflateChild(field.getValue()));
         }
 
-        // return the ObjectNode value
-        return tmp.path(key.asString());
+        return object;
+    }
+
+    /**
+     * Resolves the value of a child inside a ${@link KeyTrie}, which is either
+     * the value stored against the child, or a container built from it.
+     *
+     * @param child the child to resolve
+     * @return the resolved ${@link JsonNode}
+     * @throws ParseException if the child is invalid
+     */
+    private static JsonNode inflateChild(KeyTrie<JsonNode> child) throws ParseException {
+        // check for conflicting values
+        if (child.terminal && child.isBranch()) {
+            throw new ParseException("Unable to inflate both a value and keys into the same path!");
+        }
+        return child.terminal ? child.value : inflate(child);
     }
 
     /**
@@ -213,7 +448,7 @@ public class DotNotes {
      * @return true if the key is escaped correctly
      */
     public static boolean isEscaped(String key) {
-        return key != null && DotUtils.matches(key, DotUtils.KEY);
+        return key != null && DotUtils.isKey(key);
     }
 
     /**
@@ -221,101 +456,82 @@ public class DotNotes {
      * no means perfect, however it's stable enough for most usage. A List of ${@link NotedKey}s
      * will be returned.
      *
+     * If a ${@link KeyCache} has been installed, the returned List is shared with other
+     * callers and is therefore read-only.
+     *
      * @param s the String to parse
      * @return a List of ${@link NotedKey}s
      * @throws ParseException if any parsing issues occur
      */
     public static List<NotedKey> keys(String s) throws ParseException {
-        // short-circuit if needed
-        if (s == null || s.isEmpty()) {
-            throw new ParseException("Unable to parse empty string!");
+        // check for a cache
+        KeyCache local = cache;
+
+        // use cached keys if possible
+        if (local != null) {
+            return local.compile(s).keys();
         }
 
-        // cursor in String
-        int position = 0;
+        // create a scanner over the input
+        KeyScanner scanner = new KeyScanner(s);
 
         // key list to build into
         List<NotedKey> keys = new ArrayList<>();
 
-        // clone input
-        String input = s;
-
         // process all input
-        while (!input.isEmpty()) {
-            // try to grab a match
-            String prop = DotUtils.firstMatch(input, DotUtils.SEGMENT);
-
-            // exit if no match
-            if (prop == null) {
-                throw new ParseException(input, input.charAt(0), position);
-            }
-
-            NotedKey val;
-
-            // check accessor
-            if (matches(prop, DotUtils.ACCESSOR)) {
-                // create key
-                val = NotedKey.of(prop);
-            }
-            // check index
-            else if (matches(prop, DotUtils.INDEX)) {
-                // create key of parsed index
-                val = NotedKey.of(DotUtils.parseNum(firstMatch(prop, DotUtils.INDEX)));
-            }
-            // check prop
-            else {
-                // create key based on prop match
-                val = NotedKey.of(firstMatch(prop, DotUtils.PROPERTY));
-            }
-
-            // add the key
-            keys.add(val);
-
-            // useful lengths
-            int inputLen = input.length();
-            int propLen = prop.length();
-
-            // store remaining String
-            String remainder;
-
-            // if we're done, init to empty
-            if (inputLen == propLen) {
-                remainder = "";
-            } else {
-                // trim remainder
-                remainder = input.substring(propLen);
-                // check following char
-                boolean isDot = remainder.charAt(0) == '.';
-                // check trailing special char
-                if (remainder.length() > 1) {
-                    // check following char
-                    char nextChar = remainder.charAt(1);
-                    // exit if invalid char
-                    if (!matches(nextChar, isDot ? DotUtils.ACCESSOR : DotUtils.OPENER)) {
-                        throw new ParseException(input, nextChar, position + propLen + 1);
-                    }
-                } else {
-                    // throw exception on trailing special char
-                    throw new ParseException("Unable to parse key with trailing " +
-                            (isDot ? "dot" : "bracket") + "!");
-                }
-
-                // trim trailing dots
-                if (isDot) {
-                    remainder = remainder.substring(1);
-                }
-            }
-
-            // shift the cursor
-            position += (inputLen - remainder.length());
-            // swap the input
-            input = remainder;
+        while (scanner.hasNext()) {
+            keys.add(scanner.next());
         }
 
         // return the keys list
         return keys;
     }
 
+    /**
+     * Variant of ${@link #keys(String)} accepting any CharSequence, such as a
+     * ${@link Utf8Sequence}. Strings are passed through as usual, whilst any other
+     * CharSequence is scanned in place without first being converted into a String.
+     * As a ${@link KeyCache} is keyed by String, it is only used for String paths.
+     *
+     * @param s the CharSequence to parse
+     * @return a List of ${@link NotedKey}s
+     * @throws ParseException if any parsing issues occur
+     */
+    public static List<NotedKey> keys(CharSequence s) throws ParseException {
+        // Strings can use the cache
+        if (s instanceof String) {
+            return keys((String) s);
+        }
+        return new ArrayList<>(Arrays.asList(KeyScanner.scan(s)));
+    }
+
+    /**
+     * Variant of ${@link #keys(String)} accepting a path as a range of UTF-8 bytes,
+     * which are read via a ${@link Utf8Sequence} rather than being decoded into a String.
+     *
+     * @param s the array holding the path bytes
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return a List of ${@link NotedKey}s
+     * @throws ParseException if any parsing issues occur
+     */
+    public static List<NotedKey> keys(byte[] s, int offset, int length) throws ParseException {
+        return keys(Utf8Sequence.of(s, offset, length));
+    }
+
+    /**
+     * Parses a path into a flat array of keys, using the installed ${@link KeyCache}
+     * if there is one. The returned array may be shared and must not be modified.
+     *
+     * @param path the path to parse
+     * @return an array of ${@link NotedKey}s
+     * @throws ParseException if any parsing issues occur
+     */
+    static NotedKey[] parse(String path) throws ParseException {
+        KeyCache local = cache;
+        return local == null ? KeyScanner.scan(path) : local.compile(path).keys;
+    }
+
     /**
      * A small wrapper to ${@link #recurse(JsonNode, NodeIterator, String)} to allow omitting
      * a third parameter, passing null instead.
@@ -329,14 +545,18 @@ public class DotNotes {
 
     /**
      * Moves through the provided JsonNode, emitting values to the ${@link NodeIterator#execute(NotedKey, JsonNode, String)}
-     * method of a provided handler. A prefix can be provided in order to start all paths with a custom prefix. Paths will
+     * method of a provided handler, or to ${@link PathVisitor#visit(NotedKey, JsonNode, CharSequence)} if the handler is a
+     * ${@link PathVisitor}. A prefix can be provided in order to start all paths with a custom prefix. Paths will
      * not be generated if ${@link NodeIterator#requirePathGeneration()} returns false.
      *
+     * All paths are built inside a single shared buffer, and are only converted to a String when
+     * the handler is not a ${@link PathVisitor}.
+     *
      * @param node the node to iterate through
      * @param handler the handler to emit to
      * @param start the starting prefix String, if any
      */
-    public static void recurse(final JsonNode node, final NodeIterator handler, String start) {
+    public static void recurse(JsonNode node, final NodeIterator handler, String start) {
         // ensure this is a valid container node
         if (!node.isContainerNode()) {
             throw new IllegalArgumentException("Non-object provided to `recurse`!");
@@ -347,52 +567,59 @@ public class DotNotes {
             start = "";
         }
 
-        // detect array usage
-        final String prefix = start;
-
-        // iterate through every key in this nest, using iterateNode
-        DotUtils.iterateNode(node, new DotUtils.KeyHandler() {
+        // walk every leaf using an explicit stack
+        new NodeWalker(handler.requireKeyInterning()).walk(node, start, handler.requirePathGeneration(), new NodeWalker.Visitor() {
             @Override
-            public void execute(NotedKey key) {
-                // create a StringBuilder
-                StringBuilder keystr = new StringBuilder(prefix);
-
-                // if we're making paths
-                if (handler.requirePathGeneration()) {
-                    try {
-                        // escape the key
-                        String escaped = escape(key);
-
-                        // check for a prefix
-                        if (prefix.length() > 0) {
-                            if (escaped.charAt(0) != '[') {
-                                keystr.append(".");
-                            }
-                        }
-
-                        // append the key
-                        keystr.append(escaped);
-                    } catch(ParseException e) {
-                        // never happens
-                    }
-                }
-
-                // grab next level down
-                JsonNode next = DotUtils.findNode(node, key);
-
-                // check for container, another nest
-                if (next.isContainerNode()) {
-                    // call again using nest
-                    recurse(next, handler, keystr.toString());
-                    return;
-                }
-
+            public void visit(NotedKey key, JsonNode value, CharSequence path) {
                 // emit to the handler
-                handler.execute(key, next, keystr.toString());
+                handler.visit(key, value, path);
             }
         });
     }
 
+    /**
+     * Installs a ${@link KeyCache} to be used when parsing String paths inside
+     * ${@link #keys(String)}, ${@link #get(JsonNode, String)} and ${@link #create(JsonNode, String, JsonNode)}.
+     * Passing null will remove any installed cache.
+     *
+     * @param keyCache the cache to install, or null
+     */
+    public static void setCache(KeyCache keyCache) {
+        cache = keyCache;
+    }
+
+    /**
+     * A small wrapper to ${@link #stream(JsonNode, String)} to allow omitting
+     * a second parameter, passing null instead.
+     *
+     * @param node the node to stream
+     * @return a ${@link Stream} of ${@link NotedEntry} leaves
+     */
+    public static Stream<NotedEntry> stream(JsonNode node) {
+        return stream(node, null);
+    }
+
+    /**
+     * Returns a lazy ${@link Stream} over the leaves of the provided JsonNode, in the same
+     * order as ${@link #recurse(JsonNode, NodeIterator, String)}. Leaves are only found as
+     * the Stream is consumed, so short-circuiting operations such as findFirst or limit
+     * will stop walking the document as soon as possible.
+     *
+     * The Stream is backed by a splittable ${@link java.util.Spliterator}, so it can be
+     * used in parallel. As with any Stream, the node must not be modified whilst in use.
+     *
+     * @param node the node to stream
+     * @param start the starting prefix String, if any
+     * @return a ${@link Stream} of ${@link NotedEntry} leaves
+     */
+    public static Stream<NotedEntry> stream(JsonNode node, String start) {
+        // ensure this is a valid container node
+        if (!node.isContainerNode()) {
+            throw new IllegalArgumentException("Non-object provided to `stream`!");
+        }
+        return StreamSupport.stream(new LeafSpliterator(node, start == null ? "" : start), false);
+    }
+
     /**
      * A very small interface used for processing the iteration
      * through a set of path and key tuples. Used alongside the
@@ -404,11 +631,25 @@ public class DotNotes {
          * Receives a string path (in dot notation), and feeds in
          * the value associated (assuming it's not a missing value).
          *
-         * @param path the String path to the key
+         * @param key the NotedKey of the value
          * @param value the JsonNode associated
+         * @param path the String path to the key
          */
         abstract protected void execute(NotedKey key, JsonNode value, String path);
 
+        /**
+         * Internal entry point used by all traversals, receiving the current path as
+         * a shared buffer. By default the path is converted to a String and passed to
+         * ${@link #execute(NotedKey, JsonNode, String)}.
+         *
+         * @param key the NotedKey of the value
+         * @param value the JsonNode associated
+         * @param path the current path to the key
+         */
+        void visit(NotedKey key, JsonNode value, CharSequence path) {
+            execute(key, value, path.toString());
+        }
+
         /**
          * If the path is not being used, forcing this method to return
          * false will disable path generation, allowing for a faster recursion.
@@ -419,5 +660,50 @@ public class DotNotes {
             return true;
         }
 
+        /**
+         * If keys are retained beyond each call, forcing this method to return true
+         * will share a single key per field name via ${@link NotedKey#intern(String)}.
+         * This is disabled by default, as only a bounded number of names are interned
+         * and they are retained for the lifetime of the JVM.
+         *
+         * @return true if field names should be interned
+         */
+        protected boolean requireKeyInterning() {
+            return false;
+        }
+
+    }
+
+    /**
+     * A ${@link NodeIterator} which receives the current path as a CharSequence rather
+     * than a String, avoiding the creation of a String for every value. It can be passed
+     * anywhere a ${@link NodeIterator} is accepted.
+     */
+    abstract public static class PathVisitor extends NodeIterator {
+
+        /**
+         * Receives the current path as a CharSequence, backed by a buffer which is shared
+         * across the whole traversal. The path is only valid for the duration of the call,
+         * so it must be copied (via toString()) if it needs to be retained.
+         *
+         * @param key the NotedKey of the value
+         * @param value the JsonNode associated
+         * @param path the current path to the key
+         */
+        @Override
+        abstract protected void visit(NotedKey key, JsonNode value, CharSequence path);
+
+        /**
+         * Passes a String path through to ${@link #visit(NotedKey, JsonNode, CharSequence)}.
+         *
+         * @param key the NotedKey of the value
+         * @param value the JsonNode associated
+         * @param path the String path to the key
+         */
+        @Override
+        protected final void execute(NotedKey key, JsonNode value, String path) {
+            visit(key, value, path);
+        }
+
     }
 }
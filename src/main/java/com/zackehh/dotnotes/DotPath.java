@@ -0,0 +1,190 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, pre-parsed representation of a dot-noted path. Parsing
+ * is the most expensive part of a ${@link DotNotes#get(JsonNode, String)}
+ * call, so any path which is used repeatedly should be compiled once and
+ * then used via ${@link #get(JsonNode)} and ${@link #create(JsonNode, JsonNode)}.
+ *
+ * Paths are ordered key by key, with indices ordered numerically and before
+ * any field names, and field names ordered lexicographically. Sorting paths
+ * using this ordering groups every path with a shared prefix together.
+ */
+public final class DotPath implements Comparable<DotPath> {
+
+    /**
+     * The flat array of keys backing this path.
+     */
+    final NotedKey[] keys;
+
+    /**
+     * The original String this path was compiled from.
+     */
+    private final String path;
+
+    /**
+     * The precomputed hash of the keys inside this path.
+     */
+    private final int hash;
+
+    /**
+     * Internal constructor, accepting the source path and the array
+     * of keys it was parsed into. The array must never be exposed.
+     *
+     * @param path the source path
+     * @param keys the parsed keys
+     */
+    private DotPath(String path, NotedKey[] keys) {
+        this.path = path;
+        this.keys = keys;
+        this.hash = hash(keys);
+    }
+
+    /**
+     * Compiles a dot-noted String into a reusable ${@link DotPath}. This
+     * uses ${@link DotNotes#keys(String)} and so accepts the same format.
+     *
+     * @param path the String path to compile
+     * @return a compiled ${@link DotPath} instance
+     * @throws ParseException if any parsing issues occur
+     */
+    public static DotPath compile(String path) throws ParseException {
+        return new DotPath(path, KeyScanner.scan(path));
+    }
+
+    /**
+     * Uses this path in order to create a given value in the given leaf of a tree.
+     * This behaves identically to ${@link DotNotes#create(JsonNode, String, JsonNode)},
+     * but skips the parsing of the path entirely.
+     *
+     * @param target the target ${@link JsonNode} to create into
+     * @param value the value to set the path to
+     * @return the ${@link JsonNode} after key creation
+     * @throws ParseException if the target does not match the path
+     */
+    public JsonNode create(JsonNode target, JsonNode value) throws ParseException {
+        return DotUtils.createPath(target, this.keys, value);
+    }
+
+    /**
+     * Uses this path to move through a nested ${@link JsonNode} in order to find a
+     * specific value. This behaves identically to ${@link DotNotes#get(JsonNode, String)},
+     * but skips the parsing of the path entirely.
+     *
+     * @param node the node to use for the search
+     * @return a ${@link JsonNode} if found, a ${@link MissingNode} if not
+     */
+    public JsonNode get(JsonNode node) {
+        // check for bad targets
+        if (node == null) {
+            return MissingNode.getInstance();
+        }
+
+        // walk using the compiled keys
+        return DotUtils.findPath(node, this.keys);
+    }
+
+    /**
+     * Returns the key at the provided index of this path.
+     *
+     * @param index the index of the key
+     * @return the ${@link NotedKey} at the index
+     */
+    public NotedKey key(int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Returns a read-only List view of the keys inside this path.
+     *
+     * @return a List of ${@link NotedKey}s
+     */
+    public List<NotedKey> keys() {
+        return Collections.unmodifiableList(Arrays.asList(this.keys));
+    }
+
+    /**
+     * Returns the number of keys inside this path.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int compareTo(DotPath other) {
+        int limit = Math.min(this.keys.length, other.keys.length);
+
+        for (int i = 0; i < limit; i++) {
+            int comparison = DotUtils.compare(this.keys[i], other.keys[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return this.keys.length - other.keys.length;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof DotPath)) {
+            return false;
+        }
+
+        DotPath other = (DotPath) o;
+
+        // cheap check before walking the keys
+        if (this.hash != other.hash || this.keys.length != other.keys.length) {
+            return false;
+        }
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (!this.keys[i].equals(other.keys[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+    /**
+     * Computes a hash for a set of keys, based on the values of the
+     * keys rather than the String they were parsed from.
+     *
+     * @param keys the keys to hash
+     * @return the computed hash
+     */
+    private static int hash(NotedKey[] keys) {
+        int hash = 1;
+        for (NotedKey key : keys) {
+            hash = 31 * hash + key.hashCode();
+        }
+        return hash;
+    }
+}
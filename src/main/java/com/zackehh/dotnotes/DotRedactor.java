@@ -0,0 +1,297 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A compiled set of dot-noted patterns used to redact values whilst copying tokens from
+ * a ${@link JsonParser} to a ${@link JsonGenerator}. Each pattern either removes the values
+ * it matches, or replaces them with a fixed value. Patterns accept the same grammar as a
+ * ${@link DotMatcher}, so `payment.card[*].number` or `..email` can be used.
+ *
+ * Only the current path through the document is tracked, alongside the patterns which can
+ * still match beneath it. As soon as no pattern can match beneath a container, it is copied
+ * straight through to the generator, and removed or replaced values are skipped by the parser
+ * without being read. No part of the document is ever materialized as a ${@link JsonNode}.
+ *
+ * Removing an element from an array shifts any elements after it down, exactly as if the
+ * element was never there. Patterns continue to match against the source indices.
+ */
+public final class DotRedactor {
+
+    /**
+     * The number of bits used to store a segment index inside a state.
+     */
+    private static final int STEP_BITS = 12;
+
+    /**
+     * The mask used to read a segment index from a state.
+     */
+    private static final int STEP_MASK = (1 << STEP_BITS) - 1;
+
+    /**
+     * The compiled segments of each pattern.
+     */
+    private final DotMatcher.Step[][] steps;
+
+    /**
+     * The replacement of each pattern, or null for removal.
+     */
+    private final JsonNode[] replacements;
+
+    /**
+     * Internal constructor, accepting the compiled patterns and replacements.
+     *
+     * @param steps the compiled segments of each pattern
+     * @param replacements the replacement of each pattern
+     */
+    private DotRedactor(DotMatcher.Step[][] steps, JsonNode[] replacements) {
+        this.steps = steps;
+        this.replacements = replacements;
+    }
+
+    /**
+     * Compiles a set of patterns into a ${@link DotRedactor} which removes every
+     * matching value.
+     *
+     * @param patterns the patterns to remove
+     * @return a compiled ${@link DotRedactor}
+     * @throws ParseException if any parsing issues occur
+     */
+    public static DotRedactor compile(String... patterns) throws ParseException {
+        Map<String, JsonNode> rules = new LinkedHashMap<>();
+
+        for (String pattern : patterns) {
+            rules.put(pattern, null);
+        }
+
+        return compile(rules);
+    }
+
+    /**
+     * Compiles a Map of patterns into a ${@link DotRedactor}, replacing every matching
+     * value with the value mapped against the pattern. A pattern mapped to null removes
+     * matching values entirely, whereas a pattern mapped to a NullNode replaces them with
+     * a JSON null. If more than one pattern matches a value, the first pattern in iteration
+     * order of the Map is used.
+     *
+     * @param rules the Map of patterns to replacements
+     * @return a compiled ${@link DotRedactor}
+     * @throws ParseException if any parsing issues occur
+     */
+    public static DotRedactor compile(Map<String, JsonNode> rules) throws ParseException {
+        // states must be able to address every pattern
+        if (rules.size() > (Integer.MAX_VALUE >>> STEP_BITS)) {
+            throw new IllegalArgumentException("Too many patterns provided to `compile`!");
+        }
+
+        DotMatcher.Step[][] steps = new DotMatcher.Step[rules.size()][];
+        JsonNode[] replacements = new JsonNode[rules.size()];
+
+        int count = 0;
+
+        for (Map.Entry<String, JsonNode> rule : rules.entrySet()) {
+            steps[count] = DotMatcher.compile(rule.getKey()).steps;
+            replacements[count++] = rule.getValue();
+        }
+
+        return new DotRedactor(steps, replacements);
+    }
+
+    /**
+     * Copies a single value from the provided ${@link JsonParser} to the provided
+     * ${@link JsonGenerator}, redacting any values matching the compiled patterns.
+     *
+     * The parser may either be positioned on the first token of the value, or before it.
+     * Once this method returns, the parser is positioned on the last token of the value,
+     * so multiple values can be redacted from a single parser in turn.
+     *
+     * @param parser the parser to read tokens from
+     * @param generator the generator to write tokens to
+     * @throws IOException if the parser fails to read or the generator fails to write
+     */
+    public void redact(JsonParser parser, JsonGenerator generator) throws IOException {
+        // move to the first token if needed
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+
+        // nothing to copy
+        if (token == null) {
+            return;
+        }
+
+        // nothing can match a scalar
+        if (!token.isStructStart()) {
+            generator.copyCurrentEvent(parser);
+            return;
+        }
+
+        // active states at each level
+        int[][] states = new int[16][];
+
+        // number of active states at each level
+        int[] counts = new int[16];
+
+        // next index at each level, or -1 for objects
+        int[] indices = new int[16];
+
+        // current nesting level
+        int depth = 0;
+
+        // every pattern starts at the root
+        states[0] = new int[this.steps.length];
+        for (int i = 0; i < this.steps.length; i++) {
+            states[0][i] = i << STEP_BITS;
+        }
+
+        counts[0] = this.steps.length;
+        indices[0] = token == JsonToken.START_ARRAY ? 0 : -1;
+
+        generator.copyCurrentEvent(parser);
+
+        while (true) {
+            token = parser.nextToken();
+
+            // truncated input
+            if (token == null) {
+                return;
+            }
+
+            // move back up a level
+            if (token.isStructEnd()) {
+                generator.copyCurrentEvent(parser);
+                if (--depth < 0) {
+                    return;
+                }
+                continue;
+            }
+
+            String name = null;
+            int index = -1;
+
+            // locate the key of this value
+            if (token == JsonToken.FIELD_NAME) {
+                name = parser.getCurrentName();
+                token = parser.nextToken();
+            } else {
+                index = indices[depth]++;
+            }
+
+            // grow when necessary
+            if (depth + 1 == states.length) {
+                states = Arrays.copyOf(states, states.length << 1);
+                counts = Arrays.copyOf(counts, counts.length << 1);
+                indices = Arrays.copyOf(indices, indices.length << 1);
+            }
+
+            int[] parent = states[depth];
+            int[] next = states[depth + 1];
+
+            int count = counts[depth];
+
+            // each state moves into at most two states
+            if (next == null || next.length < count << 1) {
+                next = states[depth + 1] = new int[Math.max(8, count << 1)];
+            }
+
+            int size = 0;
+            int rule = -1;
+
+            for (int i = 0; i < count; i++) {
+                int state = parent[i];
+                int pattern = state >>> STEP_BITS;
+                int offset = state & STEP_MASK;
+
+                DotMatcher.Step step = this.steps[pattern][offset];
+
+                // move on to the next segment
+                if (name != null ? step.matches(name) : step.matches(index)) {
+                    if (offset + 1 == this.steps[pattern].length) {
+                        if (rule < 0 || pattern < rule) {
+                            rule = pattern;
+                        }
+                    } else {
+                        size = add(next, size, state + 1);
+                    }
+                }
+
+                // keep looking for the segment further down
+                if (step.descent) {
+                    size = add(next, size, state);
+                }
+            }
+
+            // redact the value
+            if (rule >= 0) {
+                JsonNode replacement = this.replacements[rule];
+
+                if (replacement != null) {
+                    if (name != null) {
+                        generator.writeFieldName(name);
+                    }
+                    copy(replacement, generator);
+                }
+
+                parser.skipChildren();
+                continue;
+            }
+
+            if (name != null) {
+                generator.writeFieldName(name);
+            }
+
+            // nothing can match beneath, so copy as is
+            if (size == 0 || !token.isStructStart()) {
+                generator.copyCurrentStructure(parser);
+                continue;
+            }
+
+            generator.copyCurrentEvent(parser);
+
+            counts[++depth] = size;
+            indices[depth] = token == JsonToken.START_ARRAY ? 0 : -1;
+        }
+    }
+
+    /**
+     * Adds a state to a set of states, unless it is already present.
+     *
+     * @param states the set of states
+     * @param size the number of states in the set
+     * @param state the state to add
+     * @return the new number of states in the set
+     */
+    private static int add(int[] states, int size, int state) {
+        for (int i = 0; i < size; i++) {
+            if (states[i] == state) {
+                return size;
+            }
+        }
+        states[size] = state;
+        return size + 1;
+    }
+
+    /**
+     * Writes a replacement value to a generator by traversing its tokens, so
+     * that the generator does not require a codec.
+     *
+     * @param value the value to write
+     * @param generator the generator to write to
+     * @throws IOException if the generator fails to write
+     */
+    private static void copy(JsonNode value, JsonGenerator generator) throws IOException {
+        try (JsonParser tokens = value.traverse()) {
+            tokens.nextToken();
+            generator.copyCurrentStructure(tokens);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A compiled set of dot-noted paths which can be resolved against a ${@link JsonNode}
+ * in a single traversal. All paths are merged into a prefix tree, so any prefix shared
+ * between paths is only walked once, regardless of how many paths are selected.
+ *
+ * Each path resolves to exactly the same value as ${@link DotNotes#get(JsonNode, String)}.
+ */
+public final class DotSelector {
+
+    /**
+     * The merged prefix tree of paths, storing result indices.
+     */
+    final KeyTrie<int[]> root;
+
+    /**
+     * The source paths, in order of their result indices.
+     */
+    private final String[] paths;
+
+    /**
+     * Internal constructor, accepting the merged tree and source paths.
+     *
+     * @param root the merged prefix tree
+     * @param paths the source paths
+     */
+    private DotSelector(KeyTrie<int[]> root, String[] paths) {
+        this.root = root;
+        this.paths = paths;
+    }
+
+    /**
+     * Compiles a set of dot-noted paths into a ${@link DotSelector}. The result of
+     * each path is stored at the same index as the path when selecting.
+     *
+     * @param paths the paths to compile
+     * @return a compiled ${@link DotSelector}
+     * @throws ParseException if any parsing issues occur
+     */
+    public static DotSelector compile(String... paths) throws ParseException {
+        KeyTrie<int[]> root = new KeyTrie<>();
+
+        for (int i = 0; i < paths.length; i++) {
+            KeyTrie<int[]> node = root.insert(DotNotes.parse(paths[i]));
+
+            // duplicate paths share a node
+            if (node.value == null) {
+                node.value = new int[]{ i };
+            } else {
+                node.value = Arrays.copyOf(node.value, node.value.length + 1);
+                node.value[node.value.length - 1] = i;
+            }
+        }
+
+        return new DotSelector(root, paths.clone());
+    }
+
+    /**
+     * Returns the source path at the provided result index.
+     *
+     * @param index the result index
+     * @return the source path
+     */
+    public String path(int index) {
+        return this.paths[index];
+    }
+
+    /**
+     * Selects all paths from a ${@link JsonNode}, returning a new array of results.
+     *
+     * @param node the node to select from
+     * @return an array of results, in path order
+     * @see #select(JsonNode, JsonNode[])
+     */
+    public JsonNode[] select(JsonNode node) {
+        JsonNode[] results = new JsonNode[this.paths.length];
+        select(node, results);
+        return results;
+    }
+
+    /**
+     * Selects all paths from a ${@link JsonNode} into a provided array, with the result
+     * of each path being stored at the same index as the path was compiled at. Paths
+     * which cannot be found are resolved to a ${@link MissingNode}.
+     *
+     * @param node the node to select from
+     * @param results the array to store results in
+     */
+    public void select(JsonNode node, JsonNode[] results) {
+        if (results.length < this.paths.length) {
+            throw new IllegalArgumentException("Result array is smaller than the number of paths!");
+        }
+        select(node, results, null);
+    }
+
+    /**
+     * Selects all paths from a ${@link JsonNode} into a provided Map, with the result
+     * of each path being stored against the source path. Paths which cannot be found
+     * are resolved to a ${@link MissingNode}.
+     *
+     * @param node the node to select from
+     * @param results the Map to store results in
+     */
+    public void select(JsonNode node, Map<String, JsonNode> results) {
+        select(node, null, results);
+    }
+
+    /**
+     * Projects all paths from a ${@link JsonNode} into a new container of the same type,
+     * containing only the selected subtrees. This is the same as creating each selected
+     * value into an empty container via ${@link DotNotes#create(JsonNode, Map)}, except
+     * that the source is walked once and nothing outside the selected paths is copied.
+     *
+     * Paths which cannot be found are left out, and containers are only created when at
+     * least one path beneath them is found. As with creation, selected array indices are
+     * appended in ascending order, so arrays in the projection are compacted.
+     *
+     * @param node the node to project from
+     * @return a new container holding copies of the selected subtrees
+     */
+    public JsonNode project(JsonNode node) {
+        // ensure this is a valid container node
+        if (node == null || !node.isContainerNode()) {
+            throw new IllegalArgumentException("Non-object provided to `project`!");
+        }
+
+        ContainerNode<?> container = (ContainerNode<?>) node;
+        ContainerNode<?> projection = prune(this.root, container);
+
+        // nothing found, so empty
+        if (projection == null) {
+            return container.isArray() ? container.arrayNode() : container.objectNode();
+        }
+
+        return projection;
+    }
+
+    /**
+     * Returns the number of paths inside this selector.
+     *
+     * @return the number of paths
+     */
+    public int size() {
+        return this.paths.length;
+    }
+
+    /**
+     * Internal entry point to selection, storing into either an array or a Map.
+     *
+     * @param node the node to select from
+     * @param array the array to store results in, or null
+     * @param map the Map to store results in, or null
+     */
+    private void select(JsonNode node, JsonNode[] array, Map<String, JsonNode> map) {
+        // check for bad targets
+        if (node == null) {
+            fill(this.root, MissingNode.getInstance(), array, map);
+            return;
+        }
+        descend(this.root, node, array, map);
+    }
+
+    /**
+     * Stores a value against all result indices of a node.
+     *
+     * @param targets the result indices
+     * @param value the value to store
+     * @param array the array to store results in, or null
+     * @param map the Map to store results in, or null
+     */
+    private void assign(int[] targets, JsonNode value, JsonNode[] array, Map<String, JsonNode> map) {
+        for (int target : targets) {
+            if (array != null) {
+                array[target] = value;
+            } else {
+                map.put(this.paths[target], value);
+            }
+        }
+    }
+
+    /**
+     * Moves through the children of a branch, resolving each against the
+     * matching child of the provided node.
+     *
+     * @param trie the branch to resolve
+     * @param node the node matching the branch
+     * @param array the array to store results in, or null
+     * @param map the Map to store results in, or null
+     */
+    private void descend(KeyTrie<int[]> trie, JsonNode node, JsonNode[] array, Map<String, JsonNode> map) {
+        if (trie.fields != null) {
+            for (Map.Entry<String, KeyTrie<int[]>> field : trie.fields.entrySet()) {
+                resolve(field.getValue(), node.path(field.getKey()), array, map);
+            }
+        }
+        if (trie.indices != null) {
+            for (Map.Entry<Integer, KeyTrie<int[]>> index : trie.indices.entrySet()) {
+                resolve(index.getValue(), node.path(index.getKey()), array, map);
+            }
+        }
+    }
+
+    /**
+     * Stores a value against all result indices inside a branch, used when
+     * a dead end is reached before the end of a set of paths.
+     *
+     * @param trie the branch to fill
+     * @param value the value to store
+     * @param array the array to store results in, or null
+     * @param map the Map to store results in, or null
+     */
+    private void fill(KeyTrie<int[]> trie, JsonNode value, JsonNode[] array, Map<String, JsonNode> map) {
+        if (trie.terminal) {
+            assign(trie.value, value, array, map);
+        }
+        fillBranch(trie, value, array, map);
+    }
+
+    /**
+     * Stores a value against all result indices beneath a branch, but not
+     * against the branch itself.
+     *
+     * @param trie the branch to fill
+     * @param value the value to store
+     * @param array the array to store results in, or null
+     * @param map the Map to store results in, or null
+     */
+    private void fillBranch(KeyTrie<int[]> trie, JsonNode value, JsonNode[] array, Map<String, JsonNode> map) {
+        if (trie.fields != null) {
+            for (KeyTrie<int[]> child : trie.fields.values()) {
+                fill(child, value, array, map);
+            }
+        }
+        if (trie.indices != null) {
+            for (KeyTrie<int[]> child : trie.indices.values()) {
+                fill(child, value, array, map);
+            }
+        }
+    }
+
+    /**
+     * Copies the children of a container which are selected by a branch of the tree,
+     * returning null if none of them can be found.
+     *
+     * @param trie the branch to project
+     * @param container the container matching the branch
+     * @return a pruned copy of the container, or null
+     */
+    private static ContainerNode<?> prune(KeyTrie<int[]> trie, ContainerNode<?> container) {
+        if (trie.fields != null && container.isObject()) {
+            ObjectNode copy = null;
+
+            for (Map.Entry<String, KeyTrie<int[]>> field : trie.fields.entrySet()) {
+                JsonNode value = keep(field.getValue(), container.get(field.getKey()));
+
+                if (value == null) {
+                    continue;
+                }
+
+                // create the copy lazily
+                if (copy == null) {
+                    copy = container.objectNode();
+                }
+
+                copy.set(field.getKey(), value);
+            }
+
+            return copy;
+        }
+
+        if (trie.indices != null && container.isArray()) {
+            ArrayNode copy = null;
+
+            for (Map.Entry<Integer, KeyTrie<int[]>> index : trie.indices.entrySet()) {
+                JsonNode value = keep(index.getValue(), container.get(index.getKey()));
+
+                if (value == null) {
+                    continue;
+                }
+
+                // create the copy lazily
+                if (copy == null) {
+                    copy = container.arrayNode();
+                }
+
+                copy.add(value);
+            }
+
+            return copy;
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the copy of a child node, copying it entirely if a path ends
+     * there and pruning it if any paths continue beneath it.
+     *
+     * @param child the branch matching the node
+     * @param node the child node, or null if missing
+     * @return a copy of the node, or null if nothing is kept
+     */
+    private static JsonNode keep(KeyTrie<int[]> child, JsonNode node) {
+        // missing, so nothing to keep
+        if (node == null) {
+            return null;
+        }
+
+        // selected paths keep the whole subtree
+        if (child.terminal) {
+            return node.deepCopy();
+        }
+
+        // dead end before the path finishes
+        if (!node.isContainerNode()) {
+            return null;
+        }
+
+        return prune(child, (ContainerNode<?>) node);
+    }
+
+    /**
+     * Resolves a child of the tree against the node found for it, storing the
+     * node if a path ends here and moving further down if any paths continue.
+     *
+     * @param child the child to resolve
+     * @param node the node found for the child
+     * @param array the array to store results in, or null
+     * @param map the Map to store results in, or null
+     */
+    void resolve(KeyTrie<int[]> child, JsonNode node, JsonNode[] array, Map<String, JsonNode> map) {
+        if (child.terminal) {
+            assign(child.value, node, array, map);
+        }
+
+        if (!child.isBranch()) {
+            return;
+        }
+
+        // if we've hit a dead end, short-circuit
+        if (node.isMissingNode() || node.isNull()) {
+            fillBranch(child, node, array, map);
+            return;
+        }
+
+        descend(child, node, array, map);
+    }
+}
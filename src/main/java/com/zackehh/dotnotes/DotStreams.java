@@ -0,0 +1,420 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Streaming counterparts to the tree-based methods inside ${@link DotNotes}.
+ * These work directly against Jackson tokens, so documents never have to be
+ * materialized as ${@link com.fasterxml.jackson.databind.JsonNode} trees.
+ */
+public class DotStreams {
+
+    /**
+     * This class is designed to be used statically - if someone manages
+     * to get at it with Reflection, throw an Exception so they stop being
+     * stupid.
+     */
+    private DotStreams() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Reads a single container value from the provided ${@link JsonParser}, emitting
+     * every scalar value inside to the typed methods of the provided ${@link ValueVisitor}
+     * alongside its dot-noted path. The paths and order of emission match those of
+     * ${@link DotNotes#recurse(com.fasterxml.jackson.databind.JsonNode, DotNotes.NodeIterator)}.
+     *
+     * The parser may either be positioned on the opening token of the container, or
+     * before it. Once this method returns, the parser is positioned on the closing
+     * token of the container.
+     *
+     * @param parser the parser to read tokens from
+     * @param visitor the visitor to emit values to
+     * @throws IOException if the parser fails to read
+     */
+    public static void flatten(JsonParser parser, ValueVisitor visitor) throws IOException {
+        // move to the first token if needed
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+
+        // ensure this is a valid container token
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Non-object provided to `flatten`!");
+        }
+
+        // shared path buffer
+        StringBuilder path = new StringBuilder();
+
+        // path length at each level
+        int[] lengths = new int[16];
+
+        // next index at each level, or -1 for objects
+        int[] indices = new int[16];
+
+        // current nesting level
+        int depth = 0;
+
+        indices[0] = token == JsonToken.START_ARRAY ? 0 : -1;
+
+        while (true) {
+            token = parser.nextToken();
+
+            // truncated input
+            if (token == null) {
+                return;
+            }
+
+            // move back up a level
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                if (--depth < 0) {
+                    return;
+                }
+                continue;
+            }
+
+            // reset to the container path
+            path.setLength(lengths[depth]);
+
+            // append the key of this value
+            if (token == JsonToken.FIELD_NAME) {
+                DotUtils.appendPath(path, NotedKey.of(parser.getCurrentName()).escaped());
+                token = parser.nextToken();
+            } else {
+                path.append('[').append(indices[depth]++).append(']');
+            }
+
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    // grow when necessary
+                    if (++depth == lengths.length) {
+                        lengths = Arrays.copyOf(lengths, depth << 1);
+                        indices = Arrays.copyOf(indices, depth << 1);
+                    }
+                    lengths[depth] = path.length();
+                    indices[depth] = token == JsonToken.START_ARRAY ? 0 : -1;
+                    break;
+                case VALUE_TRUE:
+                    visitor.visitBoolean(path.toString(), true);
+                    break;
+                case VALUE_FALSE:
+                    visitor.visitBoolean(path.toString(), false);
+                    break;
+                case VALUE_NULL:
+                    visitor.visitNull(path.toString());
+                    break;
+                case VALUE_NUMBER_INT:
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                        visitor.visitNumber(path.toString(), parser.getBigIntegerValue());
+                    } else {
+                        visitor.visitLong(path.toString(), parser.getLongValue());
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+                        visitor.visitNumber(path.toString(), parser.getDecimalValue());
+                    } else {
+                        visitor.visitDouble(path.toString(), parser.getDoubleValue());
+                    }
+                    break;
+                default:
+                    visitor.visitString(path.toString(), parser.getText());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Writes a set of dot-noted paths and their values to the provided ${@link JsonGenerator}
+     * as a single nested document, using an ${@link Inflater}. The entries must be ordered
+     * as described by ${@link Inflater#write(DotPath, JsonNode)}.
+     *
+     * @param entries the path and value pairs to write
+     * @param generator the generator to write to
+     * @throws IOException if the generator fails to write
+     * @throws ParseException if any paths are invalid or out of order
+     */
+    public static void inflate(Iterator<? extends Map.Entry<String, JsonNode>> entries, JsonGenerator generator)
+            throws IOException, ParseException {
+        Inflater inflater = new Inflater(generator);
+
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            inflater.write(entry.getKey(), entry.getValue());
+        }
+
+        inflater.finish();
+    }
+
+    /**
+     * Writes a stream of dot-noted paths and their values to a ${@link JsonGenerator}
+     * as a single nested document. Only the keys of the most recent path are retained,
+     * so memory usage is constant regardless of the size of the document.
+     *
+     * Values are written using ${@link JsonGenerator#writeTree(com.fasterxml.jackson.core.TreeNode)},
+     * so the generator must have a codec (such as when created by an ObjectMapper).
+     */
+    public static class Inflater {
+
+        /**
+         * The generator to write to.
+         */
+        private final JsonGenerator generator;
+
+        /**
+         * The keys of the last path written.
+         */
+        private NotedKey[] previous;
+
+        /**
+         * The last path written, used for errors.
+         */
+        private String previousPath;
+
+        /**
+         * Creates a new inflater writing to the provided generator.
+         *
+         * @param generator the generator to write to
+         */
+        public Inflater(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        /**
+         * Writes a String path and a value, parsing the path first.
+         *
+         * @param path the path to write
+         * @param value the value to write at the path
+         * @throws IOException if the generator fails to write
+         * @throws ParseException if the path is invalid or out of order
+         * @see #write(DotPath, JsonNode)
+         */
+        public void write(String path, JsonNode value) throws IOException, ParseException {
+            write(DotNotes.parse(path), path, value);
+        }
+
+        /**
+         * Writes a compiled path and a value. Each path must sort after the path written
+         * before it, using the ordering of ${@link DotPath#compareTo(DotPath)}, and must not
+         * be a prefix of it. Containers are opened and closed as the shared prefix between
+         * consecutive paths changes.
+         *
+         * As with ${@link DotNotes#create(JsonNode, String, JsonNode)}, array indices are
+         * treated as positions to append to, so gaps between indices are collapsed.
+         *
+         * @param path the path to write
+         * @param value the value to write at the path
+         * @throws IOException if the generator fails to write
+         * @throws ParseException if the path is out of order
+         */
+        public void write(DotPath path, JsonNode value) throws IOException, ParseException {
+            write(path.keys, path.toString(), value);
+        }
+
+        /**
+         * Closes all open containers, completing the document. If no paths have
+         * been written, an empty object is written instead.
+         *
+         * @throws IOException if the generator fails to write
+         */
+        public void finish() throws IOException {
+            // always write a document
+            if (this.previous == null) {
+                this.generator.writeStartObject();
+                this.generator.writeEndObject();
+                return;
+            }
+
+            // close everything
+            close(0);
+
+            // close the root
+            end(this.previous[0]);
+
+            this.previous = null;
+            this.previousPath = null;
+        }
+
+        /**
+         * Internal implementation of path writing, against a set of keys.
+         *
+         * @param keys the keys to write
+         * @param path the source path, used for errors
+         * @param value the value to write at the path
+         * @throws IOException if the generator fails to write
+         * @throws ParseException if the path is out of order
+         */
+        private void write(NotedKey[] keys, String path, JsonNode value) throws IOException, ParseException {
+            // the level the paths diverge at
+            int divergence = 0;
+
+            if (this.previous == null) {
+                // open the root container
+                start(keys[0]);
+            } else {
+                int limit = Math.min(keys.length, this.previous.length);
+
+                // skip the shared prefix
+                while (divergence < limit && keys[divergence].equals(this.previous[divergence])) {
+                    divergence++;
+                }
+
+                // check for prefixes and duplicates
+                if (divergence == limit) {
+                    throw new ParseException("Unable to inflate '" + path + "' after '" + this.previousPath + "'!");
+                }
+
+                // check for mismatched containers
+                if (keys[divergence].isNumber() != this.previous[divergence].isNumber()) {
+                    throw new ParseException("Expected " + (this.previous[divergence].isNumber() ? "ArrayNode" : "ObjectNode")
+                            + " target for inflation of '" + path + "'!");
+                }
+
+                // check ordering
+                if (DotUtils.compare(keys[divergence], this.previous[divergence]) < 0) {
+                    throw new ParseException("Unable to inflate '" + path + "' after '" + this.previousPath + "'!");
+                }
+
+                // close no longer shared containers
+                close(divergence);
+            }
+
+            int lastIndex = keys.length - 1;
+
+            // open the new containers
+            for (int i = divergence; i < lastIndex; i++) {
+                name(keys[i]);
+                start(keys[i + 1]);
+            }
+
+            // write the value itself
+            name(keys[lastIndex]);
+            this.generator.writeTree(value);
+
+            this.previous = keys;
+            this.previousPath = path;
+        }
+
+        /**
+         * Closes all containers opened by the previous path beneath the
+         * provided level.
+         *
+         * @param level the level to close down to
+         * @throws IOException if the generator fails to write
+         */
+        private void close(int level) throws IOException {
+            for (int i = this.previous.length - 2; i >= level; i--) {
+                end(this.previous[i + 1]);
+            }
+        }
+
+        /**
+         * Ends a container, based on the type of key inside it.
+         *
+         * @param key a key inside the container
+         * @throws IOException if the generator fails to write
+         */
+        private void end(NotedKey key) throws IOException {
+            if (key.isNumber()) {
+                this.generator.writeEndArray();
+            } else {
+                this.generator.writeEndObject();
+            }
+        }
+
+        /**
+         * Writes a field name for a key, if it belongs to an object.
+         *
+         * @param key the key to write
+         * @throws IOException if the generator fails to write
+         */
+        private void name(NotedKey key) throws IOException {
+            if (key.isString()) {
+                this.generator.writeFieldName(key.asString());
+            }
+        }
+
+        /**
+         * Starts a container, based on the type of key inside it.
+         *
+         * @param key a key inside the container
+         * @throws IOException if the generator fails to write
+         */
+        private void start(NotedKey key) throws IOException {
+            if (key.isNumber()) {
+                this.generator.writeStartArray();
+            } else {
+                this.generator.writeStartObject();
+            }
+        }
+    }
+
+    /**
+     * A visitor used to receive the scalar values found during a call to
+     * ${@link #flatten(JsonParser, ValueVisitor)}. Each value type has its
+     * own method, so that no values have to be boxed.
+     */
+    abstract public static class ValueVisitor {
+
+        /**
+         * Receives a boolean value alongside its path.
+         *
+         * @param path the String path to the value
+         * @param value the boolean value
+         */
+        abstract protected void visitBoolean(String path, boolean value);
+
+        /**
+         * Receives a floating point value alongside its path.
+         *
+         * @param path the String path to the value
+         * @param value the double value
+         */
+        abstract protected void visitDouble(String path, double value);
+
+        /**
+         * Receives an integral value alongside its path.
+         *
+         * @param path the String path to the value
+         * @param value the long value
+         */
+        abstract protected void visitLong(String path, long value);
+
+        /**
+         * Receives the path of a null value.
+         *
+         * @param path the String path to the value
+         */
+        abstract protected void visitNull(String path);
+
+        /**
+         * Receives a String value alongside its path.
+         *
+         * @param path the String path to the value
+         * @param value the String value
+         */
+        abstract protected void visitString(String path, String value);
+
+        /**
+         * Receives a number which does not fit into a long or a double. By
+         * default this is passed through to ${@link #visitDouble(String, double)},
+         * so this should be overridden if precision must be retained.
+         *
+         * @param path the String path to the value
+         * @param value the Number value
+         */
+        protected void visitNumber(String path, Number value) {
+            visitDouble(path, value.doubleValue());
+        }
+    }
+}
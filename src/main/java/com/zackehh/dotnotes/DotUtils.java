@@ -2,11 +2,12 @@ package com.zackehh.dotnotes;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import java.util.Iterator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * Small utility class for methods which shouldn't be accessible
@@ -15,18 +16,10 @@ import java.util.regex.Pattern;
  */
 class DotUtils {
 
-    static final Pattern ACCESSOR
-            = Pattern.compile("^[a-zA-Z_$][a-zA-Z0-9_$]*$");
-    static final Pattern INDEX
-            = Pattern.compile("^\\[([0-9]+)]$");
-    static final Pattern OPENER
-            = Pattern.compile("^(?:[0-9]|\"|')$");
-    static final Pattern PROPERTY
-            = Pattern.compile("^\\[(?:'|\")(.*)(?:'|\")]$");
-    static final Pattern SEGMENT
-            = Pattern.compile("^((?:[a-zA-Z_$][a-zA-Z0-9_$]*)|(?:\\[(?:'.*?(?='])'|\".*?(?=\"])\")])|(?:\\[\\d+]))");
-    static final Pattern KEY
-            = Pattern.compile(SEGMENT.toString() + "$");
+    /**
+     * A single reference to the ${@link JsonNodeFactory} singleton.
+     */
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
 
     /**
      * This class is designed to be used statically - if someone manages
@@ -38,43 +31,257 @@ class DotUtils {
     }
 
     /**
-     * Simple shorthand to grab the first match of a Pattern/Matcher
-     * pair. Takes a String and a Pattern to compare against and returns
-     * the first matching group, NOT the first group available.
+     * Determines whether a char can be used to start an accessor key,
+     * which is an ASCII letter, an underscore or a dollar sign.
+     *
+     * @param c the char to check
+     * @return true if the char can start an accessor
+     */
+    static boolean isAccessorStart(char c){
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$';
+    }
+
+    /**
+     * Determines whether a char can be used inside an accessor key,
+     * which is any char which can start an accessor, or a digit.
+     *
+     * @param c the char to check
+     * @return true if the char can continue an accessor
+     */
+    static boolean isAccessorPart(char c){
+        return isAccessorStart(c) || isDigit(c);
+    }
+
+    /**
+     * Determines whether a char is an ASCII digit.
+     *
+     * @param c the char to check
+     * @return true if the char is a digit
+     */
+    static boolean isDigit(char c){
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Determines whether a char is a line terminator, as per the
+     * definition used by the `.` of a ${@link java.util.regex.Pattern}.
+     *
+     * @param c the char to check
+     * @return true if the char terminates a line
+     */
+    static boolean isLineTerminator(char c){
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Determines whether a char can follow an opening bracket, which
+     * is either a digit or a quote.
+     *
+     * @param c the char to check
+     * @return true if the char can follow a bracket
+     */
+    static boolean isOpener(char c){
+        return isDigit(c) || c == '"' || c == '\'';
+    }
+
+    /**
+     * Determines whether a String is a valid accessor key, such as `test` or `$test_1`.
+     *
+     * As with the `$` of a ${@link java.util.regex.Pattern}, a single trailing line
+     * terminator is ignored, for compatibility with the original regex validation.
+     *
+     * @param input the String to check
+     * @return true if the String is an accessor
+     */
+    static boolean isAccessor(String input){
+        int end = trimTerminator(input);
+
+        if (end == 0 || !isAccessorStart(input.charAt(0))) {
+            return false;
+        }
+
+        for (int i = 1; i < end; i++) {
+            if (!isAccessorPart(input.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines whether a String is a single valid key, in either accessor form,
+     * quoted bracket form, or index bracket form.
+     *
+     * Quoted keys are only terminated by their final closing sequence, so (unlike when
+     * parsing a full path) they may contain the closing sequence themselves. As with
+     * ${@link #isAccessor(String)}, a single trailing line terminator is ignored.
+     *
+     * @param input the String to check
+     * @return true if the String is a valid key
+     */
+    static boolean isKey(String input){
+        int end = trimTerminator(input);
+
+        // accessor form
+        if (end == 0 || input.charAt(0) != '[') {
+            return isAccessor(input);
+        }
+
+        // brackets need content
+        if (end < 3 || input.charAt(end - 1) != ']') {
+            return false;
+        }
+
+        char opener = input.charAt(1);
+
+        // quoted bracket form
+        if (opener == '"' || opener == '\'') {
+            if (end < 4 || input.charAt(end - 2) != opener) {
+                return false;
+            }
+            for (int i = 2; i < end - 2; i++) {
+                if (isLineTerminator(input.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // index bracket form
+        for (int i = 1; i < end - 1; i++) {
+            if (!isDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Locates the end of a String, ignoring a single trailing line terminator
+     * (or a trailing `\r\n` pair) in the same way as the `$` of a Pattern.
+     *
+     * @param input the String to trim
+     * @return the index of the end of the String
+     */
+    private static int trimTerminator(String input){
+        int end = input.length();
+
+        if (end == 0 || !isLineTerminator(input.charAt(end - 1))) {
+            return end;
+        }
+
+        if (end > 1 && input.charAt(end - 1) == '\n' && input.charAt(end - 2) == '\r') {
+            return end - 2;
+        }
+
+        return end - 1;
+    }
+
+    /**
+     * Appends an escaped key to a path, inserting a dot separator when
+     * the path is non-empty and the key is not in bracket notation.
+     *
+     * @param path the path to append to
+     * @param escaped the escaped key to append
+     */
+    static void appendPath(StringBuilder path, String escaped){
+        if (path.length() > 0 && escaped.charAt(0) != '[') {
+            path.append('.');
+        }
+        path.append(escaped);
+    }
+
+    /**
+     * Counts the number of leaves inside a container node, which is the number
+     * of values which would be emitted by ${@link DotNotes#recurse(JsonNode, DotNotes.NodeIterator)}.
+     *
+     * @param node the container node to count
+     * @return the number of leaves
+     */
+    static int count(JsonNode node){
+        // pending containers
+        Deque<JsonNode> pending = new ArrayDeque<>();
+
+        // number of leaves
+        int count = 0;
+
+        pending.push(node);
+
+        while (!pending.isEmpty()) {
+            for (JsonNode child : pending.pop()) {
+                if (child.isContainerNode()) {
+                    pending.push(child);
+                } else {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Compares two keys, ordering indices numerically and before any
+     * field names, and field names lexicographically.
+     *
+     * @param left the first key
+     * @param right the second key
+     * @return the result of the comparison
+     */
+    static int compare(NotedKey left, NotedKey right){
+        if (left.isNumber()) {
+            return right.isNumber() ? Integer.compare(left.asInt(), right.asInt()) : -1;
+        }
+        return right.isNumber() ? 1 : left.asString().compareTo(right.asString());
+    }
+
+    /**
+     * Escapes a String key, returning it in accessor form if possible and
+     * in quoted bracket form otherwise. Unlike ${@link DotNotes#escape(String)}
+     * this will not accept a null key.
      *
-     * @param s the String to match
-     * @param p the Pattern to match using
-     * @return the first matched group
+     * @param input the key to escape
+     * @return the escaped key
      */
-    static String firstMatch(String s, Pattern p){
-        Matcher m = p.matcher(s);
-        return m.find() ? m.group(1) : null;
+    static String escape(String input){
+        // if it's not an accessor, return special key form
+        if (!isAccessor(input)) {
+            return "[\"" + input.replace("\"", "\\\"") + "\"]";
+        }
+
+        // return default
+        return input;
     }
 
     /**
-     * Shorthand on ${@link #matches(String, Pattern)} to accept a char
-     * rather than a complete String. This is here to ensure fastest conversion
-     * of char -> String.
+     * Appends a key to a path, in the same form as the paths generated by
+     * ${@link DotNotes#recurse(JsonNode, DotNotes.NodeIterator)}.
      *
-     * @param c the char to match
-     * @param p the Pattern to match using
-     * @return true if the char matches
+     * @param path the path to append to
+     * @param key the key to append
      */
-    static boolean matches(char c, Pattern p){
-        return matches(String.valueOf(c), p);
+    static void appendKey(StringBuilder path, NotedKey key){
+        if (key.isNumber()) {
+            path.append('[').append(key.asInt()).append(']');
+        } else {
+            appendPath(path, key.escaped());
+        }
     }
 
     /**
-     * Shorthand to determine whether a provided String matches
-     * a provided Pattern. This is an alternative to ${@link java.lang.String#matches(String)}
-     * when the Regex is pre-compiled.
+     * Joins a key onto the end of a path, in the same form as the paths generated by
+     * ${@link DotNotes#recurse(JsonNode, DotNotes.NodeIterator)}.
      *
-     * @param s the String to match
-     * @param p the Pattern to match using
-     * @return true if the String matches
+     * @param path the path to join onto
+     * @param key the key to join
+     * @return the joined path
      */
-    static boolean matches(String s, Pattern p){
-        return p.matcher(s).find();
+    static String join(String path, NotedKey key){
+        StringBuilder builder = new StringBuilder(path);
+        appendKey(builder, key);
+        return builder.toString();
     }
 
     /**
@@ -103,7 +310,7 @@ class DotUtils {
         if(key.isNumber()) {
             ArrayNode arr = (ArrayNode) node;
 
-            int num = key.asNumber();
+            int num = key.asInt();
 
             if (num >= node.size()) {
                 arr.add(value);
@@ -116,51 +323,154 @@ class DotUtils {
     }
 
     /**
-     * Finds a ${@link JsonNode} for the provided ${@link NotedKey}. The lookup
-     * changes based on whether the passed in key is a Number or a String.
+     * Implementation of ${@link DotNotes#create(JsonNode, String, JsonNode)}, working
+     * against a flat array of keys which has already been parsed.
      *
-     * @param o the object to find a value inside
-     * @param k the key to use to find a value
-     * @return a found ${@link JsonNode} instance
+     * @param target the target ${@link JsonNode} to create into
+     * @param keys the keys to create
+     * @param value the value to set the path to
+     * @return the ${@link JsonNode} after key creation
+     * @throws ParseException if the target does not match the keys
      */
-    static JsonNode findNode(JsonNode o, NotedKey k){
-        return k.isNumber() ? o.path(k.asNumber()) : o.path(k.asString());
+    static JsonNode createPath(JsonNode target, NotedKey[] keys, JsonNode value) throws ParseException {
+        // grab first key
+        NotedKey first = keys[0];
+
+        // check null target
+        if (target == null) {
+            target = first.isNumber() ? factory.arrayNode() : factory.objectNode();
+        }
+
+        // check correct array type
+        if (first.isNumber() && !target.isArray()) {
+            throw new ParseException("Expected ArrayNode target for create call!");
+        }
+
+        // check correct object type
+        if (first.isString() && !target.isObject()) {
+            throw new ParseException("Expected ObjectNode target for create call!");
+        }
+
+        // store a temporary reference
+        JsonNode tmp = target;
+
+        // grab length
+        int lastIndex = keys.length - 1;
+
+        // iterate through all keys (except the last)
+        for(int i = 0; i < lastIndex; i++) {
+
+            // grab the current key
+            NotedKey key = keys[i];
+
+            // store a MissingNode instance
+            JsonNode local = findNode(tmp, key);
+
+            // if we're dealing with a MissingNode
+            if (local.isMissingNode()) {
+                // set it to either an ObjectNode or an ArrayNode, based on the nextKey
+                set(tmp, key, keys[i + 1].isNumber() ? factory.arrayNode() : factory.objectNode());
+            }
+
+            tmp = findNode(tmp, key);
+        }
+
+        // grab the last key to process
+        NotedKey endKey = keys[lastIndex];
+
+        // set the value to the final key
+        set(tmp, endKey, value);
+
+        // return the target
+        return target;
     }
 
     /**
-     * A trivial implementation of iterating a ${@link JsonNode} without knowing what
-     * type of container is being used. If it's an ${@link ObjectNode}, we iterate using
-     * the field names, and if it's an ${@link ArrayNode} we iterate using a typical loop.
-     *
-     * Each key is emitted to a ${@link KeyHandler} for further processing.
+     * Implementation of ${@link DotNotes#get(JsonNode, String)}, working against a
+     * scanner so that each key is only parsed once the previous key has been found.
+     * If a dead end is reached, the rest of the path is never parsed.
      *
-     * @param node the node to iterate
-     * @param iterator the callback to pass each key to
+     * @param node the node to use for the search
+     * @param scanner the scanner over the path to find the value for
+     * @return a ${@link JsonNode} if found, a ${@link MissingNode} if not
+     * @throws ParseException if any parsing issues occur before a dead end
      */
-    static void iterateNode(JsonNode node, KeyHandler iterator) {
-        if(node.isObject()) {
-            Iterator<String> names = node.fieldNames();
+    static JsonNode findPath(JsonNode node, KeyScanner scanner) throws ParseException {
+        // store a cheap reference
+        JsonNode tmp = node;
 
-            while (names.hasNext()) {
-                iterator.execute(NotedKey.of(names.next()));
+        // parse the first key
+        NotedKey key = scanner.next();
+
+        // go through every key we have (except the last)
+        while (scanner.hasNext()) {
+            tmp = findNode(tmp, key);
+            // if we've hit a dead end
+            if (tmp.isMissingNode() || tmp.isNull()) {
+                // short-circuit
+                return tmp;
             }
-        } else {
-            for(int i = 0, j = node.size(); i < j; i++){
-                iterator.execute(NotedKey.of(i));
+            // parse the next key
+            key = scanner.next();
+        }
+
+        // if the key is a Number
+        if (key.isNumber()) {
+            // return the ArrayNode index
+            return tmp.path(key.asInt());
+        }
+
+        // return the ObjectNode value
+        return tmp.path(key.asString());
+    }
+
+    /**
+     * Implementation of ${@link DotNotes#get(JsonNode, String)}, working against
+     * a flat array of keys which has already been parsed.
+     *
+     * @param node the node to use for the search
+     * @param keys the keys to find the value for
+     * @return a ${@link JsonNode} if found, a ${@link MissingNode} if not
+     */
+    static JsonNode findPath(JsonNode node, NotedKey[] keys) {
+        // store a cheap reference
+        JsonNode tmp = node;
+
+        // grab length
+        int lastIndex = keys.length - 1;
+
+        // go through every key we have (except the last)
+        for(int i = 0; i < lastIndex; i++) {
+            tmp = findNode(tmp, keys[i]);
+            // if we've hit a dead end
+            if (tmp.isMissingNode() || tmp.isNull()) {
+                // short-circuit
+                return tmp;
             }
         }
+
+        // get the last key from the list
+        NotedKey key = keys[lastIndex];
+
+        // if the key is a Number
+        if (key.isNumber()) {
+            // return the ArrayNode index
+            return tmp.path(key.asInt());
+        }
+
+        // return the ObjectNode value
+        return tmp.path(key.asString());
     }
 
     /**
-     * A small interface available to use against ${@link #iterateNode(JsonNode, KeyHandler)}.
+     * Finds a ${@link JsonNode} for the provided ${@link NotedKey}. The lookup
+     * changes based on whether the passed in key is a Number or a String.
+     *
+     * @param o the object to find a value inside
+     * @param k the key to use to find a value
+     * @return a found ${@link JsonNode} instance
      */
-    interface KeyHandler {
-        /**
-         * This simply accepts a ${@link NotedKey} instance based on each key pair found during
-         * iteration.
-         *
-         * @param key the NotedKey to process
-         */
-        void execute(NotedKey key);
+    static JsonNode findNode(JsonNode o, NotedKey k){
+        return k.isNumber() ? o.path(k.asInt()) : o.path(k.asString());
     }
 }
@@ -0,0 +1,216 @@
+package com.zackehh.dotnotes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, thread-safe cache of parsed paths. Once installed via
+ * ${@link DotNotes#setCache(KeyCache)}, every String path passed to
+ * ${@link DotNotes#keys(String)}, ${@link DotNotes#get(com.fasterxml.jackson.databind.JsonNode, String)}
+ * and ${@link DotNotes#create(com.fasterxml.jackson.databind.JsonNode, String, com.fasterxml.jackson.databind.JsonNode)}
+ * is resolved through the cache rather than being parsed again.
+ *
+ * The cache is split into a number of segments, each of which is a small LRU
+ * guarded by its own lock. Entries are immutable ${@link DotPath} instances, so
+ * they can safely be shared between any number of callers.
+ */
+public final class KeyCache {
+
+    /**
+     * The maximum number of segments to split the cache into.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * The segments backing this cache.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The mask used to pick a segment for a hash.
+     */
+    private final int mask;
+
+    /**
+     * The number of lookups which found a cached path.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of lookups which had to parse a path.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The number of paths removed to make room for others.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a new cache which holds at most the provided number of paths.
+     * The bound is split across segments, so the cache may evict before the
+     * total size is reached if paths are unevenly spread between segments.
+     *
+     * @param maximumSize the maximum number of paths to hold
+     */
+    public KeyCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive!");
+        }
+
+        // find a power of two no larger than the size
+        int count = 1;
+        while (count < MAX_SEGMENTS && count << 1 <= maximumSize) {
+            count <<= 1;
+        }
+
+        // spread the capacity across all segments
+        int capacity = maximumSize / count;
+        int remainder = maximumSize % count;
+
+        this.mask = count - 1;
+        this.segments = new Segment[count];
+
+        // the first segments take any remainder
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment(i < remainder ? capacity + 1 : capacity);
+        }
+    }
+
+    /**
+     * Compiles a path through this cache, returning a previously compiled
+     * ${@link DotPath} where possible. Failed parses are never cached.
+     *
+     * @param path the String path to compile
+     * @return a compiled ${@link DotPath} instance
+     * @throws ParseException if any parsing issues occur
+     */
+    public DotPath compile(String path) throws ParseException {
+        // let the parser raise the usual error
+        if (path == null || path.isEmpty()) {
+            return DotPath.compile(path);
+        }
+
+        // locate the owning segment
+        Segment segment = segment(path);
+
+        // check for an existing entry
+        DotPath compiled;
+        synchronized (segment) {
+            compiled = segment.get(path);
+        }
+
+        if (compiled != null) {
+            this.hits.incrementAndGet();
+            return compiled;
+        }
+
+        this.misses.incrementAndGet();
+
+        // parse outside of the lock
+        compiled = DotPath.compile(path);
+
+        synchronized (segment) {
+            segment.put(path, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Removes all paths from this cache. The counters are left intact.
+     */
+    public void clear() {
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of paths which have been evicted from this cache.
+     *
+     * @return the number of evictions
+     */
+    public long evictions() {
+        return this.evictions.get();
+    }
+
+    /**
+     * Returns the number of lookups which found a cached path.
+     *
+     * @return the number of hits
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the number of lookups which had to parse a path.
+     *
+     * @return the number of misses
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the number of paths currently held by this cache.
+     *
+     * @return the number of cached paths
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Locates the segment which owns the provided path.
+     *
+     * @param path the path to locate
+     * @return the owning ${@link Segment}
+     */
+    private Segment segment(String path) {
+        int hash = path.hashCode();
+        return this.segments[(hash ^ (hash >>> 16)) & this.mask];
+    }
+
+    /**
+     * A single access-ordered LRU segment of the cache. Access must
+     * be synchronized on the segment itself.
+     */
+    private final class Segment extends LinkedHashMap<String, DotPath> {
+
+        /**
+         * The maximum number of paths in this segment.
+         */
+        private final int capacity;
+
+        /**
+         * Creates a new segment with the provided capacity.
+         *
+         * @param capacity the maximum number of paths
+         */
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DotPath> eldest) {
+            if (size() <= this.capacity) {
+                return false;
+            }
+            evictions.incrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.zackehh.dotnotes;
+
+import java.util.Arrays;
+
+/**
+ * A single-pass scanner over a dot-noted path, emitting one ${@link NotedKey}
+ * at a time. Every character is visited a constant number of times, so the
+ * cost of parsing is linear in the length of the path regardless of input.
+ *
+ * The accepted grammar and the errors raised are identical to the original
+ * regular expression based parsing inside ${@link DotNotes#keys(String)}. Any
+ * ${@link CharSequence} can be scanned; Strings are only created for keys.
+ */
+final class KeyScanner {
+
+    /**
+     * The maximum number of characters allowed inside a single path.
+     */
+    static final int MAX_LENGTH = 1 << 16;
+
+    /**
+     * The maximum number of keys allowed inside a single path.
+     */
+    static final int MAX_DEPTH = 1 << 12;
+
+    /**
+     * The path being scanned.
+     */
+    private final CharSequence input;
+
+    /**
+     * The cached length of the path being scanned.
+     */
+    private final int length;
+
+    /**
+     * Whether wildcard and descent segments are accepted.
+     */
+    private final boolean pattern;
+
+    /**
+     * The number of keys emitted so far.
+     */
+    private int depth;
+
+    /**
+     * Whether the last key emitted was preceded by a descent.
+     */
+    private boolean descent;
+
+    /**
+     * The cursor position of the next key to emit.
+     */
+    private int position;
+
+    /**
+     * Creates a new scanner over the provided path, validating that the path
+     * is both non-empty and within the allowed length.
+     *
+     * @param input the path to scan
+     * @throws ParseException if the path is empty or too long
+     */
+    KeyScanner(CharSequence input) throws ParseException {
+        this(input, false);
+    }
+
+    /**
+     * Creates a new scanner over the provided path, optionally accepting pattern
+     * segments. Inside a pattern, `*` and `[*]` are emitted as null wildcard keys,
+     * and a key preceded by `..` is flagged as a descent via ${@link #isDescent()}.
+     *
+     * @param input the path to scan
+     * @param pattern whether pattern segments are accepted
+     * @throws ParseException if the path is empty or too long
+     */
+    KeyScanner(CharSequence input, boolean pattern) throws ParseException {
+        // short-circuit if needed
+        if (input == null || input.length() == 0) {
+            throw new ParseException("Unable to parse empty string!");
+        }
+
+        // guard against hostile input
+        if (input.length() > MAX_LENGTH) {
+            throw new ParseException("Unable to parse path longer than " + MAX_LENGTH + " characters!");
+        }
+
+        this.input = input;
+        this.length = input.length();
+        this.pattern = pattern;
+    }
+
+    /**
+     * Scans an entire path into a flat array of keys.
+     *
+     * @param input the path to scan
+     * @return an array of ${@link NotedKey}s
+     * @throws ParseException if any parsing issues occur
+     */
+    static NotedKey[] scan(CharSequence input) throws ParseException {
+        KeyScanner scanner = new KeyScanner(input);
+
+        // most paths are shallow
+        NotedKey[] keys = new NotedKey[8];
+
+        int count = 0;
+
+        while (scanner.hasNext()) {
+            // grow when necessary
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count << 1);
+            }
+            keys[count++] = scanner.next();
+        }
+
+        return count == keys.length ? keys : Arrays.copyOf(keys, count);
+    }
+
+    /**
+     * Determines whether there is any remaining input to scan.
+     *
+     * @return true if there are more keys
+     */
+    boolean hasNext() {
+        return this.position < this.length;
+    }
+
+    /**
+     * Determines whether the last key emitted was preceded by a descent
+     * segment, which is only possible when scanning a pattern.
+     *
+     * @return true if the last key is a descent
+     */
+    boolean isDescent() {
+        return this.descent;
+    }
+
+    /**
+     * Scans the next key from the input, validating the separator which
+     * follows it (if any) before moving the cursor on to the next key.
+     *
+     * @return the next ${@link NotedKey}, or null for a pattern wildcard
+     * @throws ParseException if any parsing issues occur
+     */
+    NotedKey next() throws ParseException {
+        // guard against hostile input
+        if (++this.depth > MAX_DEPTH) {
+            throw new ParseException("Unable to parse path deeper than " + MAX_DEPTH + " keys!");
+        }
+
+        // segment start
+        int start = this.position;
+
+        // segment end (exclusive)
+        int end;
+
+        // the key to emit
+        NotedKey key;
+
+        // first char of the segment
+        char c = this.input.charAt(start);
+
+        // reset descent flag
+        this.descent = false;
+
+        // check descent, which is only allowed in patterns
+        if (this.pattern && c == '.') {
+            // leading descents carry both dots
+            if (start == 0) {
+                if (this.length < 2 || this.input.charAt(1) != '.') {
+                    throw failure(start);
+                }
+                start++;
+            }
+
+            // move past the dot
+            if (++start == this.length) {
+                throw new ParseException("Unable to parse key with trailing dot!");
+            }
+
+            this.descent = true;
+
+            c = this.input.charAt(start);
+        }
+
+        // check wildcard
+        if (this.pattern && c == '*') {
+            end = start + 1;
+            key = null;
+        }
+        // check accessor
+        else if (DotUtils.isAccessorStart(c)) {
+            end = start + 1;
+            while (end < this.length && DotUtils.isAccessorPart(this.input.charAt(end))) {
+                end++;
+            }
+            key = NotedKey.of(substring(start, end));
+        }
+        // check brackets
+        else if (c == '[' && start + 1 < this.length) {
+            char opener = this.input.charAt(start + 1);
+
+            // check bracketed wildcard
+            if (this.pattern && opener == '*') {
+                if (start + 2 >= this.length || this.input.charAt(start + 2) != ']') {
+                    throw failure(start);
+                }
+                end = start + 3;
+                key = null;
+            }
+            // check property
+            else if (opener == '\'' || opener == '"') {
+                end = closeProperty(start + 2, opener);
+                if (end < 0) {
+                    throw failure(start);
+                }
+                key = NotedKey.of(substring(start + 2, end - 2));
+            }
+            // check index
+            else if (DotUtils.isDigit(opener)) {
+                end = closeIndex(start + 1);
+                if (end < 0) {
+                    throw failure(start);
+                }
+                key = NotedKey.of(index(start + 1, end - 1));
+            }
+            // unknown bracket
+            else {
+                throw failure(start);
+            }
+        }
+        // unknown segment
+        else {
+            throw failure(start);
+        }
+
+        // if we're done, there's no separator
+        if (end == this.length) {
+            this.position = end;
+            return key;
+        }
+
+        // check following char
+        boolean isDot = this.input.charAt(end) == '.';
+
+        // throw exception on trailing special char
+        if (end + 1 == this.length) {
+            throw new ParseException("Unable to parse key with trailing " +
+                    (isDot ? "dot" : "bracket") + "!");
+        }
+
+        // check next char
+        char nextChar = this.input.charAt(end + 1);
+
+        // exit if invalid char
+        if (isDot ? !isKeyStart(nextChar) : !isBracketStart(nextChar)) {
+            throw new ParseException(substring(start, this.length), nextChar, end + 1);
+        }
+
+        // skip trailing dots
+        this.position = isDot ? end + 1 : end;
+
+        return key;
+    }
+
+    /**
+     * Determines whether a char can follow a dot separator. Inside a pattern,
+     * this includes wildcards and a second dot for a descent.
+     *
+     * @param c the char to check
+     * @return true if the char can follow a dot
+     */
+    private boolean isKeyStart(char c) {
+        return DotUtils.isAccessorStart(c) || (this.pattern && (c == '*' || c == '.'));
+    }
+
+    /**
+     * Determines whether a char can follow an opening bracket. Inside a
+     * pattern, this includes wildcards.
+     *
+     * @param c the char to check
+     * @return true if the char can follow a bracket
+     */
+    private boolean isBracketStart(char c) {
+        return DotUtils.isOpener(c) || (this.pattern && c == '*');
+    }
+
+    /**
+     * Locates the end of a quoted property, which is the first closing quote
+     * and bracket pair after the opening quote. Line terminators are not valid
+     * inside a property.
+     *
+     * @param from the first character inside the quotes
+     * @param quote the quote character which opened the property
+     * @return the index after the closing bracket, or -1 if unclosed
+     */
+    private int closeProperty(int from, char quote) {
+        for (int i = from, j = this.length - 1; i < j; i++) {
+            char c = this.input.charAt(i);
+            if (c == quote && this.input.charAt(i + 1) == ']') {
+                return i + 2;
+            }
+            if (DotUtils.isLineTerminator(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Locates the end of an index, which must be a run of digits
+     * followed by a closing bracket.
+     *
+     * @param from the first digit of the index
+     * @return the index after the closing bracket, or -1 if invalid
+     */
+    private int closeIndex(int from) {
+        for (int i = from; i < this.length; i++) {
+            char c = this.input.charAt(i);
+            if (c == ']') {
+                return i + 1;
+            }
+            if (!DotUtils.isDigit(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the digits in the provided range into an index. Short runs of
+     * digits are accumulated directly, and anything long enough to overflow
+     * falls back to ${@link DotUtils#parseNum(String)}.
+     *
+     * @param from the first digit
+     * @param to the index after the last digit
+     * @return the parsed index
+     */
+    private int index(int from, int to) {
+        // may overflow, use the slow path
+        if (to - from > 9) {
+            return DotUtils.parseNum(substring(from, to));
+        }
+
+        int num = 0;
+        for (int i = from; i < to; i++) {
+            num = num * 10 + (this.input.charAt(i) - '0');
+        }
+        return num;
+    }
+
+    /**
+     * Creates an exception for an unparseable segment, using the remaining
+     * input from the segment onwards.
+     *
+     * @param start the start of the segment
+     * @return a ${@link ParseException} to throw
+     */
+    private ParseException failure(int start) {
+        return new ParseException(substring(start, this.length), this.input.charAt(start), start);
+    }
+
+    /**
+     * Creates a String from a range of the input. This is the only place
+     * Strings are created, so any CharSequence can be scanned.
+     *
+     * @param from the start of the range
+     * @param to the end of the range (exclusive)
+     * @return a String of the range
+     */
+    private String substring(int from, int to) {
+        return this.input.subSequence(from, to).toString();
+    }
+}
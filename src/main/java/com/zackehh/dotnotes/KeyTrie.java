@@ -0,0 +1,94 @@
+package com.zackehh.dotnotes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A small prefix tree of ${@link NotedKey}s, used to merge many paths together
+ * so that any shared prefixes are only processed once. Field names are kept in
+ * insertion order, and indices are kept in ascending order.
+ *
+ * @param <T> the type of value stored against each path
+ */
+final class KeyTrie<T> {
+
+    /**
+     * The children of this node keyed by field name, if any.
+     */
+    Map<String, KeyTrie<T>> fields;
+
+    /**
+     * The children of this node keyed by index, if any.
+     */
+    TreeMap<Integer, KeyTrie<T>> indices;
+
+    /**
+     * Whether a path terminates at this node.
+     */
+    boolean terminal;
+
+    /**
+     * The value stored against the path terminating at this node.
+     */
+    T value;
+
+    /**
+     * Locates the child of this node for the provided key, creating
+     * it if it does not already exist.
+     *
+     * @param key the key of the child
+     * @return the child ${@link KeyTrie} node
+     */
+    KeyTrie<T> child(NotedKey key) {
+        KeyTrie<T> child;
+
+        if (key.isNumber()) {
+            if (this.indices == null) {
+                this.indices = new TreeMap<>();
+            }
+            child = this.indices.get(key.asNumber());
+            if (child == null) {
+                this.indices.put(key.asNumber(), child = new KeyTrie<>());
+            }
+        } else {
+            if (this.fields == null) {
+                this.fields = new LinkedHashMap<>();
+            }
+            child = this.fields.get(key.asString());
+            if (child == null) {
+                this.fields.put(key.asString(), child = new KeyTrie<>());
+            }
+        }
+
+        return child;
+    }
+
+    /**
+     * Inserts a set of keys beneath this node, marking the final node
+     * as terminal and returning it so a value can be attached.
+     *
+     * @param keys the keys to insert
+     * @return the terminal ${@link KeyTrie} node
+     */
+    KeyTrie<T> insert(NotedKey[] keys) {
+        KeyTrie<T> node = this;
+
+        for (NotedKey key : keys) {
+            node = node.child(key);
+        }
+
+        node.terminal = true;
+
+        return node;
+    }
+
+    /**
+     * Determines whether this node has any children.
+     *
+     * @return true if there are children
+     */
+    boolean isBranch() {
+        return this.fields != null || this.indices != null;
+    }
+}
@@ -0,0 +1,254 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A ${@link Spliterator} over the leaves of a container node, in the same order as
+ * ${@link DotNotes#recurse(JsonNode, DotNotes.NodeIterator)}. Leaves are found lazily
+ * using an explicit stack of frames, so a traversal can stop at any point without
+ * walking the rest of the document.
+ *
+ * Splitting always happens at the outermost container with at least two children left
+ * to visit. The returned spliterator takes the in-progress frames and the first half of
+ * those children, whilst this spliterator keeps the second half and anything after it.
+ */
+final class LeafSpliterator implements Spliterator<NotedEntry> {
+
+    /**
+     * The stack of frames, one per open container.
+     */
+    private Frame[] frames;
+
+    /**
+     * The number of open containers.
+     */
+    private int depth;
+
+    /**
+     * Creates a new spliterator over the leaves of a container.
+     *
+     * @param node the container node to walk
+     * @param prefix the prefix to start all paths with
+     */
+    LeafSpliterator(JsonNode node, String prefix) {
+        this.frames = new Frame[16];
+        push(node, prefix);
+    }
+
+    /**
+     * Internal constructor, used to take a set of frames when splitting.
+     *
+     * @param frames the frames to take
+     */
+    private LeafSpliterator(Frame[] frames) {
+        this.frames = frames;
+        this.depth = frames.length;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean tryAdvance(Consumer<? super NotedEntry> action) {
+        while (this.depth > 0) {
+            Frame frame = this.frames[this.depth - 1];
+
+            // close exhausted containers
+            if (frame.next == frame.end) {
+                this.frames[--this.depth] = null;
+                continue;
+            }
+
+            NotedKey key;
+            JsonNode value;
+
+            if (frame.fields != null) {
+                Map.Entry<String, JsonNode> field = frame.fields.next();
+
+                key = NotedKey.of(field.getKey());
+                value = field.getValue();
+            } else if (frame.names != null) {
+                String name = frame.names[frame.next];
+
+                key = NotedKey.of(name);
+                value = frame.node.get(name);
+            } else {
+                key = NotedKey.of(frame.next);
+                value = frame.node.get(frame.next);
+            }
+
+            frame.next++;
+
+            // check for container, another nest
+            if (value.isContainerNode()) {
+                push(value, DotUtils.join(frame.path, key));
+                continue;
+            }
+
+            action.accept(new NotedEntry(key, value, frame.path));
+            return true;
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Spliterator<NotedEntry> trySplit() {
+        for (int i = 0; i < this.depth; i++) {
+            Frame frame = this.frames[i];
+
+            // need at least two children to split
+            if (frame.end - frame.next < 2) {
+                continue;
+            }
+
+            int middle = frame.next + ((frame.end - frame.next) >>> 1);
+
+            // fields must be addressable by index
+            frame.index();
+
+            // hand over the in-progress frames
+            Frame[] prefix = Arrays.copyOfRange(this.frames, i, this.depth);
+
+            prefix[0] = new Frame(frame.node, frame.path, frame.names, frame.next, middle);
+
+            // keep the remaining children
+            Arrays.fill(this.frames, i + 1, this.depth, null);
+
+            frame.next = middle;
+
+            this.depth = i + 1;
+
+            return new LeafSpliterator(prefix);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of unvisited children across all active containers. As
+     * nested containers are not counted until they are entered, this is only an
+     * estimate of the number of leaves remaining.
+     *
+     * @return an estimated number of remaining leaves
+     */
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (int i = 0; i < this.depth; i++) {
+            size += this.frames[i].end - this.frames[i].next;
+        }
+        return size;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Opens a container at the top of the stack.
+     *
+     * @param node the container node
+     * @param path the path to the container
+     */
+    private void push(JsonNode node, String path) {
+        // grow when necessary
+        if (this.depth == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.depth << 1);
+        }
+
+        this.frames[this.depth++] = new Frame(node, path);
+    }
+
+    /**
+     * A single level of the traversal stack.
+     */
+    private static final class Frame {
+
+        /**
+         * The remaining fields of an object container, if not yet indexed.
+         */
+        Iterator<Map.Entry<String, JsonNode>> fields;
+
+        /**
+         * The field names of an object container, once indexed.
+         */
+        String[] names;
+
+        /**
+         * The container node itself.
+         */
+        final JsonNode node;
+
+        /**
+         * The path to the container.
+         */
+        final String path;
+
+        /**
+         * The index of the next child to visit.
+         */
+        int next;
+
+        /**
+         * The index after the last child to visit.
+         */
+        int end;
+
+        /**
+         * Creates a frame covering all children of a container.
+         *
+         * @param node the container node
+         * @param path the path to the container
+         */
+        Frame(JsonNode node, String path) {
+            this.node = node;
+            this.path = path;
+            this.end = node.size();
+
+            if (node.isObject()) {
+                this.fields = node.fields();
+            }
+        }
+
+        /**
+         * Creates a frame covering a range of indexed children.
+         *
+         * @param node the container node
+         * @param path the path to the container
+         * @param names the field names of an object container, or null
+         * @param next the index of the first child to visit
+         * @param end the index after the last child to visit
+         */
+        Frame(JsonNode node, String path, String[] names, int next, int end) {
+            this.node = node;
+            this.path = path;
+            this.names = names;
+            this.next = next;
+            this.end = end;
+        }
+
+        /**
+         * Converts an object frame from iteration to indexed access, by
+         * draining the remaining field names into an array.
+         */
+        void index() {
+            if (this.fields == null) {
+                return;
+            }
+
+            this.names = new String[this.end];
+
+            for (int i = this.next; i < this.end; i++) {
+                this.names[i] = this.fields.next().getKey();
+            }
+
+            this.fields = null;
+        }
+    }
+}
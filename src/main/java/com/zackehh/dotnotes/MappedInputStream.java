@@ -0,0 +1,130 @@
+package com.zackehh.dotnotes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An ${@link InputStream} over a memory-mapped file. As a single mapping is limited to
+ * 2GB, the file is mapped as a sequence of windows, each of which is only mapped once
+ * the previous window has been read. A reader which stops early never maps the rest of
+ * the file, and the operating system only pages in the parts which are actually read.
+ */
+final class MappedInputStream extends InputStream {
+
+    /**
+     * The default size of each mapped window.
+     */
+    static final long DEFAULT_WINDOW = 1L << 30;
+
+    /**
+     * The channel of the mapped file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The size of each mapped window.
+     */
+    private final long window;
+
+    /**
+     * The size of the file at the time of opening.
+     */
+    private final long size;
+
+    /**
+     * The file offset of the next window to map.
+     */
+    private long position;
+
+    /**
+     * The current mapped window, if any.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * Creates a new stream over a channel, using the default window size.
+     *
+     * @param channel the channel of the file to map
+     * @throws IOException if the size of the file cannot be read
+     */
+    MappedInputStream(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a new stream over a channel, using the provided window size.
+     *
+     * @param channel the channel of the file to map
+     * @param window the size of each mapped window
+     * @throws IOException if the size of the file cannot be read
+     */
+    MappedInputStream(FileChannel channel, long window) throws IOException {
+        this.channel = channel;
+        this.window = window;
+        this.size = channel.size();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int read() throws IOException {
+        return next() ? this.buffer.get() & 0xFF : -1;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!next()) {
+            return -1;
+        }
+
+        int count = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int available() {
+        return this.buffer == null ? 0 : this.buffer.remaining();
+    }
+
+    /**
+     * Releases the current window. The channel is owned by the caller, and is
+     * not closed by this stream.
+     */
+    @Override
+    public void close() {
+        this.buffer = null;
+    }
+
+    /**
+     * Ensures there are bytes left in the current window, mapping the next
+     * window of the file when necessary.
+     *
+     * @return true if there are bytes left to read
+     * @throws IOException if the next window cannot be mapped
+     */
+    private boolean next() throws IOException {
+        if (this.buffer != null && this.buffer.hasRemaining()) {
+            return true;
+        }
+
+        // end of the file
+        if (this.position >= this.size) {
+            return false;
+        }
+
+        long length = Math.min(this.window, this.size - this.position);
+
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, length);
+        this.position += length;
+
+        return true;
+    }
+}
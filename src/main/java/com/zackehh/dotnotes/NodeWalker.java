@@ -0,0 +1,221 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An iterative, depth-first traversal of the leaves of a ${@link JsonNode}. Rather
+ * than recursing for each container, an explicit stack of frames is used, so the
+ * depth of a document is limited only by heap space. Frames are reused as the walk
+ * moves up and down, and all paths are built inside a single shared buffer which is
+ * truncated back to the parent path after each key.
+ */
+final class NodeWalker {
+
+    /**
+     * The shared path buffer.
+     */
+    private final PathBuffer path = new PathBuffer();
+
+    /**
+     * Whether field names should be interned.
+     */
+    private final boolean intern;
+
+    /**
+     * The stack of frames, one per open container.
+     */
+    private Frame[] frames = new Frame[16];
+
+    /**
+     * Creates a new walker which creates a new key for every field.
+     */
+    NodeWalker() {
+        this(false);
+    }
+
+    /**
+     * Creates a new walker, optionally sharing keys for field names via
+     * ${@link NotedKey#intern(String)}.
+     *
+     * @param intern whether field names should be interned
+     */
+    NodeWalker(boolean intern) {
+        this.intern = intern;
+    }
+
+    /**
+     * Walks the provided container node, emitting every leaf to the provided
+     * visitor in the same order as a recursive depth-first traversal.
+     *
+     * @param node the container node to walk
+     * @param prefix the prefix to start all paths with
+     * @param paths whether paths should be generated
+     * @param visitor the visitor to emit leaves to
+     */
+    void walk(JsonNode node, String prefix, boolean paths, Visitor visitor) {
+        walk(node, prefix, paths, Integer.MAX_VALUE, visitor);
+    }
+
+    /**
+     * Walks the provided container node, emitting every leaf to the provided
+     * visitor. Any nested container with more children than the provided limit
+     * is emitted to the visitor as-is, rather than being walked.
+     *
+     * @param node the container node to walk
+     * @param prefix the prefix to start all paths with
+     * @param paths whether paths should be generated
+     * @param limit the maximum size of a container to walk into
+     * @param visitor the visitor to emit leaves to
+     */
+    void walk(JsonNode node, String prefix, boolean paths, int limit, Visitor visitor) {
+        // reset the path to the prefix
+        this.path.setLength(0);
+        this.path.append(prefix);
+
+        // open the root container
+        int depth = 0;
+        push(depth++, node);
+
+        while (depth > 0) {
+            Frame frame = this.frames[depth - 1];
+
+            NotedKey key;
+            JsonNode value;
+
+            if (frame.fields != null) {
+                // close exhausted objects
+                if (!frame.fields.hasNext()) {
+                    frame.clear();
+                    depth--;
+                    continue;
+                }
+
+                Map.Entry<String, JsonNode> field = frame.fields.next();
+
+                key = this.intern ? NotedKey.intern(field.getKey()) : NotedKey.of(field.getKey());
+                value = field.getValue();
+
+                // reset back to the container path
+                this.path.setLength(frame.length);
+
+                if (paths) {
+                    this.path.append(key);
+                }
+            } else {
+                // close exhausted arrays
+                if (frame.index == frame.size) {
+                    frame.clear();
+                    depth--;
+                    continue;
+                }
+
+                key = NotedKey.of(frame.index);
+                value = frame.node.get(frame.index++);
+
+                // reset back to the container path
+                this.path.setLength(frame.length);
+
+                if (paths) {
+                    this.path.append(key);
+                }
+            }
+
+            // check for container, another nest
+            if (value.isContainerNode() && value.size() <= limit) {
+                push(depth++, value);
+                continue;
+            }
+
+            // emit to the visitor
+            visitor.visit(key, value, this.path);
+        }
+    }
+
+    /**
+     * Opens a container at the provided depth, reusing any frame
+     * which was previously used at the same depth.
+     *
+     * @param depth the depth of the container
+     * @param node the container node
+     */
+    private void push(int depth, JsonNode node) {
+        // grow when necessary
+        if (depth == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, depth << 1);
+        }
+
+        Frame frame = this.frames[depth];
+
+        if (frame == null) {
+            frame = this.frames[depth] = new Frame();
+        }
+
+        frame.node = node;
+        frame.length = this.path.length();
+
+        if (node.isObject()) {
+            frame.fields = node.fields();
+        } else {
+            frame.index = 0;
+            frame.size = node.size();
+        }
+    }
+
+    /**
+     * A single level of the traversal stack.
+     */
+    private static final class Frame {
+
+        /**
+         * The remaining fields of an object container.
+         */
+        Iterator<Map.Entry<String, JsonNode>> fields;
+
+        /**
+         * The next index of an array container.
+         */
+        int index;
+
+        /**
+         * The length of the path to this container.
+         */
+        int length;
+
+        /**
+         * The container node itself.
+         */
+        JsonNode node;
+
+        /**
+         * The size of an array container.
+         */
+        int size;
+
+        /**
+         * Releases references held by this frame.
+         */
+        void clear() {
+            this.fields = null;
+            this.node = null;
+        }
+    }
+
+    /**
+     * Receives each leaf found during a walk.
+     */
+    interface Visitor {
+        /**
+         * Receives a leaf alongside its key and path. The path is a view of
+         * the shared buffer, and is only valid for the duration of the call.
+         *
+         * @param key the key of the leaf
+         * @param value the leaf value
+         * @param path the current path
+         */
+        void visit(NotedKey key, JsonNode value, CharSequence path);
+    }
+}
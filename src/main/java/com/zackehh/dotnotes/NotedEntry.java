@@ -0,0 +1,128 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * A single leaf of a flattened document, pairing a value with its ${@link NotedKey}
+ * and its dot-noted path. These are the elements of ${@link DotNotes#stream(JsonNode)}.
+ *
+ * The path is only built the first time it is requested, so entries which are
+ * filtered on their key or value never pay for path generation. As a Map.Entry,
+ * the key of an entry is the path and the value is the leaf itself.
+ */
+public final class NotedEntry implements Map.Entry<String, JsonNode> {
+
+    /**
+     * The key of the leaf inside its container.
+     */
+    private final NotedKey key;
+
+    /**
+     * The leaf value itself.
+     */
+    private final JsonNode value;
+
+    /**
+     * The path to the container holding the leaf.
+     */
+    private final String parent;
+
+    /**
+     * The full path to the leaf, once built.
+     */
+    private String path;
+
+    /**
+     * Internal constructor, accepting a key, value and the path to the parent.
+     *
+     * @param key the key of the leaf
+     * @param value the leaf value
+     * @param parent the path to the container holding the leaf
+     */
+    NotedEntry(NotedKey key, JsonNode value, String parent) {
+        this.key = key;
+        this.value = value;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the key of the leaf inside its container.
+     *
+     * @return the ${@link NotedKey} of the leaf
+     */
+    public NotedKey key() {
+        return this.key;
+    }
+
+    /**
+     * Returns the dot-noted path to the leaf, building it if necessary.
+     *
+     * @return the String path to the leaf
+     */
+    public String path() {
+        if (this.path == null) {
+            this.path = DotUtils.join(this.parent, this.key);
+        }
+        return this.path;
+    }
+
+    /**
+     * Returns the leaf value.
+     *
+     * @return the ${@link JsonNode} leaf
+     */
+    public JsonNode value() {
+        return this.value;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String getKey() {
+        return path();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public JsonNode getValue() {
+        return this.value;
+    }
+
+    /**
+     * Entries are read-only, so this will always throw.
+     *
+     * @param value the value to set
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public JsonNode setValue(JsonNode value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Map.Entry)) {
+            return false;
+        }
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+        return path().equals(entry.getKey()) && this.value.equals(entry.getValue());
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int hashCode() {
+        return path().hashCode() ^ this.value.hashCode();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String toString() {
+        return path() + "=" + this.value;
+    }
+}
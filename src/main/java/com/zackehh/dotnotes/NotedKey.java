@@ -1,5 +1,8 @@
 package com.zackehh.dotnotes;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * A wrapping class for a potential key - keys
  * can be either Strings or Integers, depending
@@ -10,9 +13,45 @@ package com.zackehh.dotnotes;
 public class NotedKey {
 
     /**
-     * The internal key backing this NotedKey.
+     * The number of index keys which are shared, starting from 0.
+     */
+    private static final int CACHED_INDICES = 1024;
+
+    /**
+     * The maximum number of field names which will be interned.
+     */
+    private static final int MAX_INTERNED = 4096;
+
+    /**
+     * Shared instances for the most common index keys.
+     */
+    private static final NotedKey[] INDICES = new NotedKey[CACHED_INDICES];
+
+    /**
+     * Shared instances for interned field names.
+     */
+    private static final ConcurrentMap<String, NotedKey> NAMES = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < CACHED_INDICES; i++) {
+            INDICES[i] = new NotedKey(i);
+        }
+    }
+
+    /**
+     * The internal String key backing this NotedKey, or null for indices.
+     */
+    private final String name;
+
+    /**
+     * The internal index backing this NotedKey, if not a String.
      */
-    private final Object key;
+    private final int index;
+
+    /**
+     * The escaped form of this key, once computed.
+     */
+    private String escaped;
 
     /**
      * String constructor, taking a String value and
@@ -21,19 +60,51 @@ public class NotedKey {
      * @param s the String value of this key
      */
     private NotedKey(String s){
-        this.key = s;
+        this.name = s;
+        this.index = -1;
+    }
+
+    /**
+     * Index constructor, taking an int value and setting
+     * the internal key against it. This takes an `int`
+     * because there should be no use case for wishing
+     * to pass `null`, and so indices are never boxed.
+     *
+     * @param i the int value of this key
+     */
+    private NotedKey(int i){
+        this.name = null;
+        this.index = i;
     }
 
     /**
-     * Integer constructor, taking an Integer value and
-     * setting the internal key against it. This takes an
-     * `int` because there should be no use case for wishing
-     * to pass `null`.
+     * Returns the escaped form of this key, as used inside a dot-noted path. This
+     * is computed once and then stored on the key, so shared instances (such as
+     * those created via ${@link #intern(String)}) only ever escape once.
      *
-     * @param i the Integer value of this key
+     * @return the escaped form of this key
      */
-    private NotedKey(Integer i){
-        this.key = i;
+    String escaped(){
+        String escaped = this.escaped;
+        if (escaped == null) {
+            escaped = this.name == null ? "[" + this.index + "]" : DotUtils.escape(this.name);
+            this.escaped = escaped;
+        }
+        return escaped;
+    }
+
+    /**
+     * Returns the internal key as a primitive int, without boxing. This
+     * should only be called once ${@link #isNumber()} has been checked.
+     *
+     * @return the internal key as an int
+     * @throws IllegalStateException if the key is not a Number
+     */
+    public int asInt(){
+        if (this.name != null) {
+            throw new IllegalStateException("NotedKey is not a Number!");
+        }
+        return this.index;
     }
 
     /**
@@ -43,7 +114,7 @@ public class NotedKey {
      * @return the internal key as a Integer
      */
     public Integer asNumber(){
-        return isNumber() ? (Integer) this.key : null;
+        return isNumber() ? Integer.valueOf(this.index) : null;
     }
 
     /**
@@ -53,7 +124,7 @@ public class NotedKey {
      * @return the internal key as a String
      */
     public String asString(){
-        return isString() ? (String) this.key : null;
+        return this.name;
     }
 
     /**
@@ -62,7 +133,7 @@ public class NotedKey {
      * @return true if the key is a Number
      */
     public boolean isNumber(){
-        return this.key instanceof Number;
+        return this.name == null;
     }
 
     /**
@@ -71,7 +142,34 @@ public class NotedKey {
      * @return true if the key is a String
      */
     public boolean isString(){
-        return this.key instanceof String;
+        return this.name != null;
+    }
+
+    /**
+     * Creates a NotedKey wrapping an index. Indices between 0 and 1023
+     * are shared instances, so creating them never allocates.
+     *
+     * @param i the index to create for
+     * @return a NotedKey wrapping the index
+     */
+    public static NotedKey of(int i){
+        if (i >= 0 && i < CACHED_INDICES) {
+            return INDICES[i];
+        }
+        return new NotedKey(i);
+    }
+
+    /**
+     * Creates a NotedKey wrapping a field name. A new instance is created
+     * on every call; use ${@link #intern(String)} to share instances.
+     *
+     * If the name is null, a null value is simply returned.
+     *
+     * @param name the field name to create for
+     * @return a NotedKey wrapping the field name
+     */
+    public static NotedKey of(String name){
+        return name == null ? null : new NotedKey(name);
     }
 
     /**
@@ -86,18 +184,77 @@ public class NotedKey {
      */
     public static NotedKey of(Object o){
         if (o instanceof Number) {
-            return new NotedKey((Integer) o);
+            return of((int) (Integer) o);
         }
         if (o instanceof String) {
-            return new NotedKey((String) o);
+            return of((String) o);
         }
         return null;
     }
 
+    /**
+     * Creates a NotedKey wrapping a field name, sharing a single instance per
+     * name. Only a bounded number of names are retained; once the limit has
+     * been reached, new names are simply wrapped in a new NotedKey.
+     *
+     * @param name the field name to create for
+     * @return a NotedKey wrapping the field name
+     */
+    public static NotedKey intern(String name){
+        if (name == null) {
+            return null;
+        }
+
+        NotedKey key = NAMES.get(name);
+
+        if (key != null) {
+            return key;
+        }
+
+        key = new NotedKey(name);
+
+        // only retain up to the limit
+        if (NAMES.size() < MAX_INTERNED) {
+            NotedKey existing = NAMES.putIfAbsent(name, key);
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Determines whether another Object is a NotedKey with the same value,
+     * regardless of whether it is the same instance.
+     *
+     * @param o the Object to compare against
+     * @return true if the keys are equal
+     */
+    @Override
+    public boolean equals(Object o){
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NotedKey)) {
+            return false;
+        }
+        NotedKey other = (NotedKey) o;
+        return this.name == null
+            ? other.name == null && this.index == other.index
+            : this.name.equals(other.name);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int hashCode(){
+        return this.name == null ? this.index : this.name.hashCode();
+    }
+
     /** {@inheritDoc} **/
     @Override
     public String toString(){
-        return this.key.toString();
+        return this.name == null ? Integer.toString(this.index) : this.name;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,324 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A parallel pipeline to flatten newline-delimited JSON, built on top of the same traversal
+ * as ${@link DotNotes#flatten(JsonNode)}. Input is read from a channel in chunks which are
+ * split on line boundaries, and each chunk is parsed and flattened as a single task inside
+ * an ${@link ExecutorService}. Blank lines are skipped, and lines may end with either "\n"
+ * or "\r\n".
+ *
+ * Flattened records are passed to a ${@link Handler} on the calling thread, in exactly the
+ * same order as the input, so the handler does not need to be thread-safe. Tasks are kept
+ * in a bounded queue in input order, and reading blocks on the oldest task once the queue
+ * is full, so a slow handler applies backpressure to reading rather than buffering all of
+ * the input in memory.
+ */
+public final class ParallelFlattener {
+
+    /**
+     * The default number of bytes in each chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The mapper used to parse records, rejecting trailing content on a line.
+     */
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    /**
+     * The pool to execute tasks inside.
+     */
+    private final ExecutorService pool;
+
+    /**
+     * The minimum number of bytes in each chunk.
+     */
+    private final int chunkSize;
+
+    /**
+     * The maximum number of chunks in flight at once.
+     */
+    private final int depth;
+
+    /**
+     * Creates a new flattener using the default chunk size, allowing two chunks
+     * in flight for each available processor.
+     *
+     * @param pool the pool to execute tasks inside
+     */
+    public ParallelFlattener(ExecutorService pool) {
+        this(pool, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a new flattener using the provided chunk size and queue depth.
+     *
+     * @param pool the pool to execute tasks inside
+     * @param chunkSize the minimum number of bytes in each chunk
+     * @param depth the maximum number of chunks in flight at once
+     */
+    public ParallelFlattener(ExecutorService pool, int chunkSize, int depth) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive!");
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("Queue depth must be positive!");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.depth = depth;
+    }
+
+    /**
+     * Reads newline-delimited JSON from a channel until the end of input, passing each
+     * flattened record to the provided handler in input order. Each record must be a
+     * container, otherwise an ${@link IllegalArgumentException} is thrown which contains
+     * the input offset of the record.
+     *
+     * Any Exception thrown by a task or by the handler is thrown back to the caller, and
+     * any tasks still in flight are cancelled. The channel is not closed.
+     *
+     * @param channel the channel to read from
+     * @param handler the handler to emit records to
+     * @return the number of records emitted
+     * @throws IOException if the channel fails to read, or a record fails to parse
+     */
+    public long flatten(ReadableByteChannel channel, Handler handler) throws IOException {
+        ArrayDeque<Future<List<Map<String, JsonNode>>>> pending = new ArrayDeque<>(this.depth);
+
+        byte[] buffer = new byte[this.chunkSize];
+
+        // number of bytes in the buffer
+        int length = 0;
+
+        // input offset of the buffer
+        long offset = 0;
+
+        // number of records emitted
+        long count = 0;
+
+        try {
+            boolean eof = false;
+
+            while (!eof) {
+                // fill the buffer as far as possible
+                ByteBuffer target = ByteBuffer.wrap(buffer, length, buffer.length - length);
+
+                while (target.hasRemaining()) {
+                    if (channel.read(target) < 0) {
+                        eof = true;
+                        break;
+                    }
+                }
+
+                length = target.position();
+
+                // locate the last line ending
+                int end = length;
+                if (!eof) {
+                    while (end > 0 && buffer[end - 1] != '\n') {
+                        end--;
+                    }
+                }
+
+                // a single line larger than the buffer
+                if (end == 0) {
+                    if (!eof) {
+                        buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                    }
+                    continue;
+                }
+
+                // wait on the oldest chunk when full
+                if (pending.size() == this.depth) {
+                    count += emit(pending.poll(), handler);
+                }
+
+                pending.add(this.pool.submit(new Chunk(buffer, end, offset)));
+
+                // carry the partial line into a new buffer
+                byte[] next = new byte[Math.max(this.chunkSize, length - end)];
+                System.arraycopy(buffer, end, next, 0, length - end);
+
+                buffer = next;
+                offset += end;
+                length -= end;
+            }
+
+            // emit everything left, in order
+            while (!pending.isEmpty()) {
+                count += emit(pending.poll(), handler);
+            }
+
+            return count;
+        } finally {
+            for (Future<?> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Waits for a chunk to complete, passing each of its records to a handler.
+     *
+     * @param future the future of the chunk
+     * @param handler the handler to emit records to
+     * @return the number of records emitted
+     * @throws IOException if the chunk failed to parse, or the handler throws
+     */
+    private static int emit(Future<List<Map<String, JsonNode>>> future, Handler handler) throws IOException {
+        List<Map<String, JsonNode>> records;
+
+        try {
+            records = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted whilst waiting on a chunk!");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+
+        for (Map<String, JsonNode> record : records) {
+            handler.handle(record);
+        }
+
+        return records.size();
+    }
+
+    /**
+     * Receives each flattened record, in input order.
+     */
+    public interface Handler {
+        /**
+         * Receives a single flattened record.
+         *
+         * @param record the Map of paths to values of the record
+         * @throws IOException if the record cannot be handled
+         */
+        void handle(Map<String, JsonNode> record) throws IOException;
+    }
+
+    /**
+     * A task to parse and flatten every line inside a chunk of input.
+     */
+    private static final class Chunk implements Callable<List<Map<String, JsonNode>>> {
+
+        /**
+         * The bytes of the chunk.
+         */
+        private final byte[] bytes;
+
+        /**
+         * The number of bytes in the chunk.
+         */
+        private final int length;
+
+        /**
+         * The input offset of the chunk, used for errors.
+         */
+        private final long offset;
+
+        /**
+         * Creates a new chunk task.
+         *
+         * @param bytes the bytes of the chunk
+         * @param length the number of bytes in the chunk
+         * @param offset the input offset of the chunk
+         */
+        Chunk(byte[] bytes, int length, long offset) {
+            this.bytes = bytes;
+            this.length = length;
+            this.offset = offset;
+        }
+
+        /** {@inheritDoc} **/
+        @Override
+        public List<Map<String, JsonNode>> call() throws IOException {
+            List<Map<String, JsonNode>> records = new ArrayList<>();
+
+            int start = 0;
+
+            for (int i = 0; i <= this.length; i++) {
+                // wait for the end of a line
+                if (i < this.length && this.bytes[i] != '\n') {
+                    continue;
+                }
+
+                int end = i;
+
+                // trim a carriage return
+                if (end > start && this.bytes[end - 1] == '\r') {
+                    end--;
+                }
+
+                if (!isBlank(start, end)) {
+                    JsonNode node;
+
+                    try {
+                        node = mapper.readTree(this.bytes, start, end - start);
+                    } catch (JsonProcessingException e) {
+                        throw new IOException("Unable to parse record at offset " + (this.offset + start) + "!", e);
+                    }
+
+                    // only containers can be flattened
+                    if (!node.isContainerNode()) {
+                        throw new IllegalArgumentException("Non-object record at offset " + (this.offset + start) + "!");
+                    }
+
+                    records.add(DotNotes.flatten(node));
+                }
+
+                start = i + 1;
+            }
+
+            return records;
+        }
+
+        /**
+         * Determines whether a line contains only whitespace.
+         *
+         * @param start the first byte of the line
+         * @param end the byte after the line
+         * @return true if the line is blank
+         */
+        private boolean isBlank(int start, int end) {
+            for (int i = start; i < end; i++) {
+                byte b = this.bytes[i];
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
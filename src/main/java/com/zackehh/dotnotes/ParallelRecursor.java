@@ -0,0 +1,427 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A parallel alternative to ${@link DotNotes#recurse(JsonNode, DotNotes.NodeIterator, String)},
+ * built on a ${@link ForkJoinPool}. Any container with more children than the configured
+ * threshold is split into subtasks, so very large arrays and very wide objects can be walked
+ * across many threads. Smaller containers are walked sequentially within a single task.
+ *
+ * Emitted keys, values and paths are identical to those of the sequential traversal. By default
+ * values are emitted as soon as they are found, so the handler will be called concurrently from
+ * any number of pool threads and must be thread-safe. If the traversal is ordered, values are
+ * instead buffered by each task and replayed to the handler on the calling thread, in exactly
+ * the same order as the sequential traversal, so the handler does not need to be thread-safe.
+ * Note that an ordered traversal may have to buffer a large part of the document at once.
+ */
+public final class ParallelRecursor {
+
+    /**
+     * The default number of children a container may have before being split.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    /**
+     * The pool to execute tasks inside.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The maximum number of children a task will walk before splitting.
+     */
+    private final int threshold;
+
+    /**
+     * Whether values are emitted in sequential order.
+     */
+    private final boolean ordered;
+
+    /**
+     * Creates a new unordered recursor using the default threshold.
+     *
+     * @param pool the pool to execute tasks inside
+     */
+    public ParallelRecursor(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD, false);
+    }
+
+    /**
+     * Creates a new recursor using the provided threshold and ordering.
+     *
+     * @param pool the pool to execute tasks inside
+     * @param threshold the maximum number of children a task will walk before splitting
+     * @param ordered whether values should be emitted in sequential order
+     */
+    public ParallelRecursor(ForkJoinPool pool, int threshold, boolean ordered) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive!");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.ordered = ordered;
+    }
+
+    /**
+     * A small wrapper to ${@link #recurse(JsonNode, DotNotes.NodeIterator, String)} to allow
+     * omitting a third parameter, passing null instead.
+     *
+     * @param node the node to pass
+     * @param handler the handler to pass
+     */
+    public void recurse(JsonNode node, DotNotes.NodeIterator handler) {
+        recurse(node, handler, null);
+    }
+
+    /**
+     * Moves through the provided JsonNode in parallel, emitting values to the
+     * ${@link DotNotes.NodeIterator#execute(NotedKey, JsonNode, String)} method of a
+     * provided handler. This method returns once every value has been emitted, and any
+     * Exception thrown by the handler is thrown back to the caller. Exceptions thrown on
+     * another thread may be wrapped by the pool in a new Exception of the same type.
+     *
+     * @param node the node to iterate through
+     * @param handler the handler to emit to
+     * @param start the starting prefix String, if any
+     */
+    public void recurse(JsonNode node, DotNotes.NodeIterator handler, String start) {
+        // ensure this is a valid container node
+        if (!node.isContainerNode()) {
+            throw new IllegalArgumentException("Non-object provided to `recurse`!");
+        }
+
+        // prefixes should default
+        if (start == null) {
+            start = "";
+        }
+
+        Traversal traversal = new Traversal(handler, start, handler.requirePathGeneration());
+
+        // walk everything inside the pool
+        List<Object> output = this.pool.invoke(traversal.new ContainerTask(node, start));
+
+        // replay buffered values in order
+        if (this.ordered) {
+            traversal.replay(output);
+        }
+    }
+
+    /**
+     * The shared state of a single traversal.
+     */
+    private final class Traversal {
+
+        /**
+         * The handler to emit values to.
+         */
+        private final DotNotes.NodeIterator handler;
+
+        /**
+         * Whether paths should be generated.
+         */
+        private final boolean paths;
+
+        /**
+         * Whether field names should be interned.
+         */
+        private final boolean intern;
+
+        /**
+         * The starting prefix, used as the path when paths are not generated.
+         */
+        private final String start;
+
+        /**
+         * Creates a new traversal state.
+         *
+         * @param handler the handler to emit values to
+         * @param start the starting prefix
+         * @param paths whether paths should be generated
+         */
+        Traversal(DotNotes.NodeIterator handler, String start, boolean paths) {
+            this.handler = handler;
+            this.paths = paths;
+            this.intern = handler.requireKeyInterning();
+            this.start = start;
+        }
+
+        /**
+         * Replays the buffered output of an ordered task to the handler, waiting
+         * on any nested tasks in turn.
+         *
+         * @param output the buffered output
+         */
+        void replay(List<Object> output) {
+            for (Object item : output) {
+                if (item instanceof Leaf) {
+                    Leaf leaf = (Leaf) item;
+                    this.handler.visit(leaf.key, leaf.value, leaf.path);
+                } else {
+                    replay(((Task) item).join());
+                }
+            }
+        }
+
+        /**
+         * The base of all tasks, handling the emission of values and the forking
+         * of nested containers which are too large to walk.
+         */
+        private abstract class Task extends RecursiveTask<List<Object>> implements NodeWalker.Visitor {
+
+            /**
+             * The buffered values and nested tasks of an ordered traversal.
+             */
+            final List<Object> output = ordered ? new ArrayList<>() : null;
+
+            /**
+             * The nested tasks of an unordered traversal.
+             */
+            final List<Task> pending = ordered ? null : new ArrayList<Task>();
+
+            /** {@inheritDoc} **/
+            @Override
+            protected final List<Object> compute() {
+                execute();
+
+                // wait for all nested tasks, newest first
+                if (this.pending != null) {
+                    for (int i = this.pending.size() - 1; i >= 0; i--) {
+                        this.pending.get(i).join();
+                    }
+                }
+
+                return this.output;
+            }
+
+            /**
+             * Executes the work of this task.
+             */
+            abstract void execute();
+
+            /**
+             * Forks a task, tracking it for joining or replay.
+             *
+             * @param task the task to fork
+             */
+            void fork(Task task) {
+                task.fork();
+
+                if (this.output != null) {
+                    this.output.add(task);
+                } else {
+                    this.pending.add(task);
+                }
+            }
+
+            /** {@inheritDoc} **/
+            @Override
+            public void visit(NotedKey key, JsonNode value, CharSequence path) {
+                // large containers are split into a new task
+                if (value.isContainerNode()) {
+                    fork(new ContainerTask(value, path.toString()));
+                    return;
+                }
+
+                // emit immediately when unordered
+                if (this.output == null) {
+                    handler.visit(key, value, path);
+                    return;
+                }
+
+                this.output.add(new Leaf(key, value, paths ? path.toString() : start));
+            }
+        }
+
+        /**
+         * A task to walk a single container node, splitting it into ranges
+         * if it contains too many children.
+         */
+        private final class ContainerTask extends Task {
+
+            /**
+             * The container to walk.
+             */
+            private final JsonNode node;
+
+            /**
+             * The path to the container.
+             */
+            private final String prefix;
+
+            /**
+             * Creates a new task to walk a container.
+             *
+             * @param node the container to walk
+             * @param prefix the path to the container
+             */
+            ContainerTask(JsonNode node, String prefix) {
+                this.node = node;
+                this.prefix = prefix;
+            }
+
+            /** {@inheritDoc} **/
+            @Override
+            void execute() {
+                int size = this.node.size();
+
+                // small enough to walk directly
+                if (size <= threshold) {
+                    new NodeWalker(intern).walk(this.node, this.prefix, paths, threshold, this);
+                    return;
+                }
+
+                String[] names = null;
+
+                // snapshot field names so ranges can be addressed by index
+                if (this.node.isObject()) {
+                    names = new String[size];
+
+                    Iterator<String> fields = this.node.fieldNames();
+                    for (int i = 0; i < size; i++) {
+                        names[i] = fields.next();
+                    }
+                }
+
+                fork(new RangeTask(this.node, this.prefix, names, 0, size));
+            }
+        }
+
+        /**
+         * A task to walk a range of the children of a large container.
+         */
+        private final class RangeTask extends Task {
+
+            /**
+             * The container to walk.
+             */
+            private final JsonNode node;
+
+            /**
+             * The path to the container.
+             */
+            private final String prefix;
+
+            /**
+             * The field names of an object container, or null for arrays.
+             */
+            private final String[] names;
+
+            /**
+             * The first child index, inclusive.
+             */
+            private final int from;
+
+            /**
+             * The last child index, exclusive.
+             */
+            private final int to;
+
+            /**
+             * Creates a new task to walk a range of children.
+             *
+             * @param node the container to walk
+             * @param prefix the path to the container
+             * @param names the field names of an object container, or null
+             * @param from the first child index, inclusive
+             * @param to the last child index, exclusive
+             */
+            RangeTask(JsonNode node, String prefix, String[] names, int from, int to) {
+                this.node = node;
+                this.prefix = prefix;
+                this.names = names;
+                this.from = from;
+                this.to = to;
+            }
+
+            /** {@inheritDoc} **/
+            @Override
+            void execute() {
+                // split large ranges in half
+                if (this.to - this.from > threshold) {
+                    int middle = (this.from + this.to) >>> 1;
+
+                    fork(new RangeTask(this.node, this.prefix, this.names, this.from, middle));
+                    fork(new RangeTask(this.node, this.prefix, this.names, middle, this.to));
+
+                    return;
+                }
+
+                NodeWalker walker = null;
+                PathBuffer path = new PathBuffer().append(this.prefix);
+
+                int length = path.length();
+
+                for (int i = this.from; i < this.to; i++) {
+                    NotedKey key;
+                    JsonNode value;
+
+                    if (this.names != null) {
+                        key = intern ? NotedKey.intern(this.names[i]) : NotedKey.of(this.names[i]);
+                        value = this.node.get(this.names[i]);
+                    } else {
+                        key = NotedKey.of(i);
+                        value = this.node.get(i);
+                    }
+
+                    // reset back to the container path
+                    path.setLength(length);
+
+                    if (paths) {
+                        path.append(key);
+                    }
+
+                    // walk small containers in place
+                    if (value.isContainerNode() && value.size() <= threshold) {
+                        if (walker == null) {
+                            walker = new NodeWalker(intern);
+                        }
+                        walker.walk(value, path.toString(), paths, threshold, this);
+                        continue;
+                    }
+
+                    visit(key, value, path);
+                }
+            }
+        }
+    }
+
+    /**
+     * A leaf value buffered for an ordered traversal.
+     */
+    private static final class Leaf {
+
+        /**
+         * The key of the value.
+         */
+        final NotedKey key;
+
+        /**
+         * The path to the value.
+         */
+        final String path;
+
+        /**
+         * The value itself.
+         */
+        final JsonNode value;
+
+        /**
+         * Creates a new buffered leaf.
+         *
+         * @param key the key of the value
+         * @param value the value itself
+         * @param path the path to the value
+         */
+        Leaf(NotedKey key, JsonNode value, String path) {
+            this.key = key;
+            this.path = path;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.zackehh.dotnotes;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of chars used to build dot-noted paths during a traversal.
+ * Keys are appended on the way down and the buffer is truncated on the way back
+ * up, so a single buffer serves every path in a document.
+ *
+ * Only the ${@link CharSequence} interface is visible outside of this package, so
+ * handlers can read the current path without being able to modify it. A String is
+ * only created when ${@link #toString()} or ${@link #subSequence(int, int)} is called.
+ */
+final class PathBuffer implements CharSequence {
+
+    /**
+     * The backing chars of the buffer.
+     */
+    private char[] chars;
+
+    /**
+     * The number of chars currently in use.
+     */
+    private int length;
+
+    /**
+     * Creates a new, empty buffer.
+     */
+    PathBuffer() {
+        this.chars = new char[64];
+    }
+
+    /**
+     * Appends a String to the end of the buffer, as is.
+     *
+     * @param value the String to append
+     * @return this buffer instance
+     */
+    PathBuffer append(String value) {
+        int size = value.length();
+        ensure(this.length + size);
+        value.getChars(0, size, this.chars, this.length);
+        this.length += size;
+        return this;
+    }
+
+    /**
+     * Appends a key to the end of the buffer, in the same form as found in paths
+     * generated by ${@link DotNotes#recurse(com.fasterxml.jackson.databind.JsonNode, DotNotes.NodeIterator)}.
+     * Indices are written in bracket form, and fields are escaped and separated by
+     * a dot when necessary.
+     *
+     * @param key the key to append
+     * @return this buffer instance
+     */
+    PathBuffer append(NotedKey key) {
+        if (key.isString()) {
+            String escaped = key.escaped();
+
+            // separate from any parent path
+            if (this.length > 0 && escaped.charAt(0) != '[') {
+                ensure(this.length + 1);
+                this.chars[this.length++] = '.';
+            }
+
+            return append(escaped);
+        }
+
+        int index = key.asInt();
+
+        // count the digits of the index
+        int digits = 1;
+        for (int i = index; i >= 10; i /= 10) {
+            digits++;
+        }
+
+        ensure(this.length + digits + 2);
+
+        this.chars[this.length] = '[';
+        this.length += digits + 1;
+
+        // write digits back to front
+        for (int i = this.length - 1; i >= this.length - digits; i--) {
+            this.chars[i] = (char) ('0' + index % 10);
+            index /= 10;
+        }
+
+        this.chars[this.length++] = ']';
+
+        return this;
+    }
+
+    /**
+     * Truncates the buffer back to the provided length.
+     *
+     * @param length the length to truncate to
+     */
+    void setLength(int length) {
+        this.length = length;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+        return this.chars[index];
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + this.length);
+        }
+        return new String(this.chars, start, end - start);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String toString() {
+        return new String(this.chars, 0, this.length);
+    }
+
+    /**
+     * Grows the backing chars to fit at least the provided capacity.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensure(int capacity) {
+        if (capacity > this.chars.length) {
+            this.chars = Arrays.copyOf(this.chars, Math.max(capacity, this.chars.length << 1));
+        }
+    }
+}
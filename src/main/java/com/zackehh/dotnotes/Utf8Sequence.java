@@ -0,0 +1,147 @@
+package com.zackehh.dotnotes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A ${@link CharSequence} view over UTF-8 encoded bytes, allowing paths which arrive
+ * as bytes (such as from a network buffer) to be passed to ${@link DotNotes#get(com.fasterxml.jackson.databind.JsonNode, CharSequence)}
+ * and ${@link DotNotes#keys(CharSequence)} without first decoding them into a String.
+ *
+ * As almost all paths are ASCII, where every byte maps directly to a single char, ASCII
+ * input is wrapped without any copying or decoding. Any other input is decoded into a
+ * String, as the mapping between bytes and chars is no longer direct.
+ *
+ * Views are backed by the original bytes, so the bytes must not be modified whilst a
+ * view is in use. Any keys parsed from a view are independent of the original bytes.
+ */
+public final class Utf8Sequence implements CharSequence {
+
+    /**
+     * The backing array, if the bytes are held in an array.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The backing buffer, if the bytes are not held in an array.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The offset of the first byte in the backing storage.
+     */
+    private final int offset;
+
+    /**
+     * The number of bytes in this view.
+     */
+    private final int length;
+
+    /**
+     * Internal constructor, accepting either a backing array or buffer.
+     *
+     * @param bytes the backing array, or null
+     * @param buffer the backing buffer, or null
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     */
+    private Utf8Sequence(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+        this.bytes = bytes;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a CharSequence over a range of UTF-8 bytes inside an array.
+     *
+     * @param bytes the array holding the bytes
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return a ${@link CharSequence} of the decoded bytes
+     */
+    public static CharSequence of(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") out of bounds for length " + bytes.length);
+        }
+
+        for (int i = offset, j = offset + length; i < j; i++) {
+            // non-ASCII, so decode
+            if (bytes[i] < 0) {
+                return new String(bytes, offset, length, StandardCharsets.UTF_8);
+            }
+        }
+
+        return new Utf8Sequence(bytes, null, offset, length);
+    }
+
+    /**
+     * Creates a CharSequence over the remaining UTF-8 bytes inside a buffer, which are
+     * the bytes between the position and the limit. The position of the buffer is not
+     * modified.
+     *
+     * @param buffer the buffer holding the bytes
+     * @return a ${@link CharSequence} of the decoded bytes
+     */
+    public static CharSequence of(ByteBuffer buffer) {
+        int position = buffer.position();
+        int remaining = buffer.remaining();
+
+        // use the array directly where possible
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + position, remaining);
+        }
+
+        for (int i = position, j = position + remaining; i < j; i++) {
+            // non-ASCII, so decode
+            if (buffer.get(i) < 0) {
+                return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+            }
+        }
+
+        return new Utf8Sequence(null, buffer, position, remaining);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+        return (char) (this.bytes != null
+                ? this.bytes[this.offset + index]
+                : this.buffer.get(this.offset + index));
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + this.length);
+        }
+
+        // ASCII maps directly to Latin-1
+        if (this.bytes != null) {
+            return new String(this.bytes, this.offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) this.buffer.get(this.offset + start + i);
+        }
+        return new String(chars);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public String toString() {
+        return (String) subSequence(0, this.length);
+    }
+}
@@ -0,0 +1,231 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ColumnsTest {
+
+    private static final String RECORDS = "{\"a\":1,\"b\":{\"c\":true},\"d\":[\"x\",\"y\"]}\n"
+            + "{\"a\":2,\"e\":1.5,\"d\":[\"z\"]}\n"
+            + "{\"b\":{\"c\":false},\"a\":null,\"f g\":3}\n";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void assignsColumnsInOrder() throws Exception {
+        DotColumns batch = read(RECORDS);
+
+        assertEquals(batch.rows(), 3);
+        assertEquals(batch.columns(), 6);
+
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < batch.columns(); i++) {
+            assertEquals(batch.column(i).id(), i);
+            paths.add(batch.column(i).path());
+        }
+
+        final List<String> expected = new ArrayList<>();
+
+        DotNotes.recurse(mapper.readTree("{\"a\":1,\"b\":{\"c\":true},\"d\":[\"x\",\"y\"],\"e\":1.5,\"f g\":3}"),
+                new DotNotes.NodeIterator() {
+                    @Override
+                    protected void execute(NotedKey key, JsonNode value, String path) {
+                        expected.add(path);
+                    }
+                });
+
+        assertEquals(paths, expected);
+        assertEquals(batch.column("[\"f g\"]").id(), 5);
+        assertNull(batch.column("missing"));
+    }
+
+    @Test
+    public void appendsTypedValues() throws Exception {
+        DotColumns batch = read(RECORDS);
+
+        DotColumns.Column a = batch.column("a");
+
+        assertEquals(a.type(), DotColumns.Type.LONG);
+        assertEquals(a.getLong(0), 1L);
+        assertEquals(a.getLong(1), 2L);
+        assertTrue(a.isNull(2));
+
+        DotColumns.Column c = batch.column("b.c");
+
+        assertEquals(c.type(), DotColumns.Type.BOOLEAN);
+        assertTrue(c.getBoolean(0));
+        assertTrue(c.isNull(1));
+        assertFalse(c.getBoolean(2));
+
+        DotColumns.Column d1 = batch.column("d[1]");
+
+        assertEquals(d1.type(), DotColumns.Type.STRING);
+        assertEquals(d1.getString(0), "y");
+        assertTrue(d1.isNull(1));
+        assertTrue(d1.isNull(2));
+
+        DotColumns.Column e = batch.column("e");
+
+        assertEquals(e.type(), DotColumns.Type.DOUBLE);
+        assertTrue(e.isNull(0));
+        assertEquals(e.getDouble(1), 1.5);
+    }
+
+    @Test
+    public void widensMixedColumns() throws Exception {
+        DotColumns batch = read("{\"a\":1,\"b\":1}{\"a\":2.5,\"b\":\"x\"}{\"a\":3,\"b\":true}{\"c\":null}");
+
+        DotColumns.Column a = batch.column("a");
+
+        assertEquals(a.type(), DotColumns.Type.DOUBLE);
+        assertEquals(a.getDouble(0), 1.0);
+        assertEquals(a.getDouble(1), 2.5);
+        assertEquals(a.getDouble(2), 3.0);
+        assertTrue(a.isNull(3));
+
+        DotColumns.Column b = batch.column("b");
+
+        assertEquals(b.type(), DotColumns.Type.STRING);
+        assertEquals(b.getString(0), "1");
+        assertEquals(b.getString(1), "x");
+        assertEquals(b.getString(2), "true");
+
+        DotColumns.Column c = batch.column("c");
+
+        assertEquals(c.type(), DotColumns.Type.NULL);
+        assertTrue(c.isNull(3));
+    }
+
+    @Test
+    public void keepsIntegralValuesWhenWideningToStrings() throws Exception {
+        DotColumns batch = read("{\"a\":1,\"b\":0.5}{\"a\":2.5,\"b\":2}{\"a\":9007199254740993}"
+                + "{\"a\":\"x\",\"b\":false}{\"a\":1e10}");
+
+        DotColumns.Column a = batch.column("a");
+
+        assertEquals(a.type(), DotColumns.Type.STRING);
+        assertEquals(a.getString(0), "1");
+        assertEquals(a.getString(1), "2.5");
+        assertEquals(a.getString(2), "9007199254740993");
+        assertEquals(a.getString(3), "x");
+        assertEquals(a.getString(4), "1e10");
+
+        DotColumns.Column b = batch.column("b");
+
+        assertEquals(b.type(), DotColumns.Type.STRING);
+        assertEquals(b.getString(0), "0.5");
+        assertEquals(b.getString(1), "2");
+        assertTrue(b.isNull(2));
+        assertEquals(b.getString(3), "false");
+    }
+
+    @Test
+    public void keepsIntegralValuesAcrossManyRows() throws Exception {
+        StringBuilder builder = new StringBuilder("{\"a\":0.5}\n");
+        for (int i = 1; i < 1000; i++) {
+            builder.append("{\"a\":").append(i).append("}\n");
+        }
+        builder.append("{\"a\":\"x\"}\n");
+
+        DotColumns.Column a = read(builder.toString()).column("a");
+
+        assertEquals(a.type(), DotColumns.Type.STRING);
+        assertEquals(a.getString(0), "0.5");
+        assertEquals(a.getString(1000), "x");
+
+        for (int i = 1; i < 1000; i++) {
+            assertEquals(a.getString(i), String.valueOf(i));
+        }
+    }
+
+    @Test
+    public void growsAcrossManyRows() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i % 3 == 0 ? "{\"b\":null}" : "{\"a\":" + i + ",\"b\":" + (i % 2 == 0) + "}").append('\n');
+        }
+
+        DotColumns batch = read(builder.toString());
+
+        assertEquals(batch.rows(), 1000);
+
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 == 0) {
+                assertTrue(batch.column("a").isNull(i));
+                assertTrue(batch.column("b").isNull(i));
+            } else {
+                assertEquals(batch.column("a").getLong(i), i);
+                assertEquals(batch.column("b").getBoolean(i), i % 2 == 0);
+            }
+        }
+    }
+
+    @Test
+    public void clearsForReuse() throws Exception {
+        DotColumns batch = read(RECORDS);
+
+        batch.clear();
+
+        assertEquals(batch.rows(), 0);
+        assertEquals(batch.columns(), 6);
+
+        JsonParser parser = jsonFactory.createParser("{\"e\":\"text\"}");
+
+        assertTrue(batch.append(parser));
+        assertFalse(batch.append(parser));
+
+        assertEquals(batch.rows(), 1);
+        assertEquals(batch.column("e").type(), DotColumns.Type.STRING);
+        assertEquals(batch.column("e").getString(0), "text");
+        assertEquals(batch.column("a").type(), DotColumns.Type.NULL);
+        assertTrue(batch.column("a").isNull(0));
+    }
+
+    @Test
+    public void readsArrayRecords() throws Exception {
+        DotColumns batch = read("[1,[2]]");
+
+        assertEquals(batch.column("[0]").getLong(0), 1L);
+        assertEquals(batch.column("[1][0]").getLong(0), 2L);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Column `a` is not of type STRING!")
+    public void throwErrorWhenReadingWrongType() throws Exception {
+        read(RECORDS).column("a").getString(0);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Column `a` is null at row 2!")
+    public void throwErrorWhenReadingNull() throws Exception {
+        read(RECORDS).column("a").getLong(2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `append`!")
+    public void throwErrorWhenProvidedScalarRecord() throws Exception {
+        new DotColumns().append(jsonFactory.createParser("1"));
+    }
+
+    private DotColumns read(String input) throws Exception {
+        DotColumns batch = new DotColumns();
+
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            while (batch.append(parser)) {
+                // read everything
+            }
+        }
+
+        return batch;
+    }
+}
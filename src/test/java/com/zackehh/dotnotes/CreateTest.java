@@ -6,8 +6,14 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class CreateTest {
@@ -340,4 +346,74 @@ public class CreateTest {
     public void throwErrorAgainstInvalidArrayTarget() throws Exception {
         DotNotes.create(factory.arrayNode(), "test", factory.numberNode(5));
     }
+
+    @Test
+    public void createUsingBatchOfKeys() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.with("test").put("existing", 1);
+
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("test.added", factory.numberNode(2));
+        values.put("test.nested[0].value", factory.numberNode(3));
+        values.put("test.nested[1]", factory.numberNode(4));
+        values.put("other", factory.numberNode(5));
+
+        JsonNode parsedObj = DotNotes.create(objectNode, values);
+
+        assertSame(parsedObj, objectNode);
+        assertEquals(parsedObj.size(), 2);
+        assertEquals(parsedObj.get("test").size(), 3);
+        assertEquals(parsedObj.get("test").get("existing").asInt(), 1);
+        assertEquals(parsedObj.get("test").get("added").asInt(), 2);
+        assertEquals(parsedObj.get("test").get("nested").get(0).get("value").asInt(), 3);
+        assertEquals(parsedObj.get("test").get("nested").get(1).asInt(), 4);
+        assertEquals(parsedObj.get("other").asInt(), 5);
+    }
+
+    @Test
+    public void createUsingBatchOfKeysMatchingSequentialCreate() throws Exception {
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("[0].test", factory.numberNode(1));
+        values.put("[0].nest[0]", factory.numberNode(2));
+        values.put("[1]['quoted.key']", factory.numberNode(3));
+        values.put("[5]", factory.numberNode(4));
+
+        JsonNode expected = null;
+
+        for (Map.Entry<String, JsonNode> entry : values.entrySet()) {
+            expected = DotNotes.create(expected, entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(DotNotes.create(null, values), expected);
+    }
+
+    @Test
+    public void createUsingEmptyBatchOfKeys() throws Exception {
+        ArrayNode arrayNode = factory.arrayNode();
+
+        assertSame(DotNotes.create(arrayNode, Collections.<String, JsonNode>emptyMap()), arrayNode);
+        assertNull(DotNotes.create(null, Collections.<String, JsonNode>emptyMap()));
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Expected ObjectNode target for create call!")
+    public void throwErrorWhenProvidedBatchWithMismatchedContainer() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("test", 1);
+
+        DotNotes.create(objectNode, Collections.<String, JsonNode>singletonMap("test.test", factory.numberNode(2)));
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to create both a value and keys at the same path!")
+    public void throwErrorWhenProvidedBatchWithConflictingPaths() throws Exception {
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("test", factory.numberNode(1));
+        values.put("test.test", factory.numberNode(2));
+
+        DotNotes.create(null, values);
+    }
 }
@@ -0,0 +1,168 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class DiffTest {
+
+    private static final String BEFORE = "{\"a\":1,\"b\":{\"c\":[1,2,3],\"d\":\"x\"},\"e\":{\"f\":true},\"g h\":null,\"i\":[{\"j\":1}]}";
+
+    private static final String AFTER = "{\"a\":2,\"b\":{\"c\":[1,5],\"d\":\"x\"},\"e\":1,\"g h\":null,\"i\":{\"0\":{\"j\":1}},\"k\":{\"l\":[true]}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void reportsChangedLeaves() throws Exception {
+        List<DotDiff.Change> changes = DotDiff.diff(mapper.readTree(BEFORE), mapper.readTree(AFTER));
+
+        List<String> actual = new ArrayList<>();
+        for (DotDiff.Change change : changes) {
+            actual.add(change.toString());
+        }
+
+        assertEquals(actual, Arrays.asList(
+            "CHANGED a: 1 -> 2",
+            "CHANGED b.c[1]: 2 -> 5",
+            "REMOVED b.c[2]: 3 -> null",
+            "REMOVED e.f: true -> null",
+            "ADDED e: null -> 1",
+            "REMOVED i[0].j: 1 -> null",
+            "ADDED i[\"0\"].j: null -> 1",
+            "ADDED k.l[0]: null -> true"
+        ));
+
+        DotDiff.Change change = changes.get(0);
+
+        assertEquals(change.type(), DotDiff.Type.CHANGED);
+        assertEquals(change.path(), "a");
+        assertEquals(change.before().asInt(), 1);
+        assertEquals(change.after().asInt(), 2);
+
+        assertNull(changes.get(2).after());
+        assertNull(changes.get(4).before());
+    }
+
+    @Test
+    public void matchesFlattenedDiff() throws Exception {
+        JsonNode before = mapper.readTree(BEFORE);
+        JsonNode after = mapper.readTree(AFTER);
+
+        assertEquals(sorted(DotDiff.diff(before, after)), flattened(before, after));
+        assertEquals(sorted(DotDiff.diff(after, before)), flattened(after, before));
+    }
+
+    @Test
+    public void reportsNothingForEqualNodes() throws Exception {
+        JsonNode before = mapper.readTree(BEFORE);
+
+        assertTrue(DotDiff.diff(before, before).isEmpty());
+        assertTrue(DotDiff.diff(before, before.deepCopy()).isEmpty());
+    }
+
+    @Test
+    public void skipsSharedSubtrees() throws Exception {
+        ObjectNode shared = (ObjectNode) mapper.readTree(BEFORE);
+
+        ObjectNode before = JsonNodeFactory.instance.objectNode();
+        ObjectNode after = JsonNodeFactory.instance.objectNode();
+
+        before.set("shared", shared);
+        before.put("version", 1);
+
+        after.set("shared", shared);
+        after.put("version", 2);
+
+        List<DotDiff.Change> changes = DotDiff.diff(before, after);
+
+        assertEquals(changes.size(), 1);
+        assertEquals(changes.get(0).path(), "version");
+    }
+
+    @Test
+    public void reportsMismatchedRoots() throws Exception {
+        List<DotDiff.Change> changes = DotDiff.diff(mapper.readTree("{\"a\":1}"), mapper.readTree("[1]"));
+
+        assertEquals(changes.size(), 2);
+        assertEquals(changes.get(0).toString(), "REMOVED a: 1 -> null");
+        assertEquals(changes.get(1).toString(), "ADDED [0]: null -> 1");
+    }
+
+    @Test
+    public void diffsDeeplyNestedNodes() throws Exception {
+        ObjectNode before = JsonNodeFactory.instance.objectNode();
+        ObjectNode after = JsonNodeFactory.instance.objectNode();
+
+        ObjectNode left = before;
+        ObjectNode right = after;
+
+        for (int i = 0; i < 50000; i++) {
+            left = left.putObject("a");
+            right = right.putObject("a");
+        }
+
+        left.put("b", 1);
+        right.put("b", 2);
+
+        List<DotDiff.Change> changes = DotDiff.diff(before, after);
+
+        assertEquals(changes.size(), 1);
+        assertEquals(changes.get(0).type(), DotDiff.Type.CHANGED);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `diff`!")
+    public void throwErrorWhenProvidedNonContainer() throws Exception {
+        DotDiff.diff(mapper.readTree("{}"), mapper.readTree("1"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `diff`!")
+    public void throwErrorWhenProvidedNull() throws Exception {
+        DotDiff.diff(null, mapper.readTree("{}"));
+    }
+
+    private static List<String> sorted(List<DotDiff.Change> changes) {
+        List<String> output = new ArrayList<>();
+        for (DotDiff.Change change : changes) {
+            output.add(change.toString());
+        }
+        Collections.sort(output);
+        return output;
+    }
+
+    private static List<String> flattened(JsonNode before, JsonNode after) {
+        Map<String, JsonNode> left = DotNotes.flatten(before);
+        Map<String, JsonNode> right = DotNotes.flatten(after);
+
+        List<String> output = new ArrayList<>();
+
+        for (Map.Entry<String, JsonNode> entry : left.entrySet()) {
+            JsonNode other = right.get(entry.getKey());
+            if (other == null) {
+                output.add("REMOVED " + entry.getKey() + ": " + entry.getValue() + " -> null");
+            } else if (!other.equals(entry.getValue())) {
+                output.add("CHANGED " + entry.getKey() + ": " + entry.getValue() + " -> " + other);
+            }
+        }
+
+        for (Map.Entry<String, JsonNode> entry : right.entrySet()) {
+            if (!left.containsKey(entry.getKey())) {
+                output.add("ADDED " + entry.getKey() + ": null -> " + entry.getValue());
+            }
+        }
+
+        Collections.sort(output);
+        return output;
+    }
+}
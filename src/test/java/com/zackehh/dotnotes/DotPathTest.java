@@ -0,0 +1,94 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class DotPathTest {
+
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    @Test
+    public void compilesMixedPath() throws Exception {
+        DotPath path = DotPath.compile("a.b[0]['x.y']");
+
+        assertNotNull(path);
+        assertEquals(path.size(), 4);
+        assertEquals(path.toString(), "a.b[0]['x.y']");
+
+        assertEquals(path.key(0).asString(), "a");
+        assertEquals(path.key(1).asString(), "b");
+        assertEquals((int) path.key(2).asNumber(), 0);
+        assertEquals(path.key(3).asString(), "x.y");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void exposesReadOnlyKeys() throws Exception {
+        List<NotedKey> keys = DotPath.compile("a.b").keys();
+
+        assertEquals(keys.size(), 2);
+
+        keys.add(NotedKey.of("c"));
+    }
+
+    @Test
+    public void comparesUsingKeyValues() throws Exception {
+        DotPath first = DotPath.compile("a['b'][0]");
+        DotPath second = DotPath.compile("[\"a\"].b[0]");
+        DotPath third = DotPath.compile("a.b['0']");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        assertFalse(first.equals(third));
+        assertFalse(first.equals(null));
+        assertFalse(first.equals("a.b[0]"));
+    }
+
+    @Test
+    public void getUsingCompiledPath() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.with("a").withArray("b").addObject().put("x.y", 5);
+
+        DotPath path = DotPath.compile("a.b[0]['x.y']");
+
+        JsonNode value = path.get(objectNode);
+
+        assertNotNull(value);
+        assertTrue(value.isNumber());
+        assertEquals(value.asInt(), 5);
+
+        assertTrue(path.get(null).isMissingNode());
+        assertTrue(DotPath.compile("b.c").get(objectNode).isMissingNode());
+    }
+
+    @Test
+    public void createUsingCompiledPath() throws Exception {
+        DotPath path = DotPath.compile("a.b[0]['x.y']");
+
+        JsonNode created = path.create(null, factory.numberNode(5));
+
+        assertNotNull(created);
+        assertTrue(created.isObject());
+        assertEquals(path.get(created).asInt(), 5);
+
+        path.create(created, factory.numberNode(6));
+
+        assertEquals(created.get("a").get("b").size(), 1);
+        assertEquals(path.get(created).asInt(), 6);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse empty string!")
+    public void throwErrorWhenCompilingEmptyPath() throws Exception {
+        DotPath.compile("");
+    }
+}
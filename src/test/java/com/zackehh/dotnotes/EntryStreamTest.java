@@ -0,0 +1,207 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class EntryStreamTest {
+
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    @Test
+    public void streamsInRecursiveOrder() throws Exception {
+        JsonNode node = createNode();
+
+        List<String> expected = collect(node, null);
+        List<String> actual = DotNotes.stream(node)
+            .map(entry -> format(entry.key(), entry.value(), entry.path()))
+            .collect(Collectors.toList());
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void streamsWithPrefix() throws Exception {
+        JsonNode node = createNode();
+
+        List<String> expected = collect(node, "prefix");
+        List<String> actual = DotNotes.stream(node, "prefix")
+            .map(entry -> format(entry.key(), entry.value(), entry.path()))
+            .collect(Collectors.toList());
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void streamsShortCircuit() throws Exception {
+        ArrayNode arrayNode = factory.arrayNode();
+
+        for (int i = 0; i < 10000; i++) {
+            arrayNode.addObject().put("value", i);
+        }
+
+        AtomicInteger visited = new AtomicInteger();
+
+        Optional<NotedEntry> entry = DotNotes.stream(arrayNode)
+            .peek(leaf -> visited.incrementAndGet())
+            .filter(leaf -> leaf.value().asInt() == 25)
+            .findFirst();
+
+        assertTrue(entry.isPresent());
+        assertEquals(entry.get().path(), "[25].value");
+        assertEquals(visited.get(), 26);
+    }
+
+    @Test
+    public void streamsInParallel() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        for (int i = 0; i < 2000; i++) {
+            objectNode.withArray("field" + (i % 7)).addObject().put("value", i).withArray("list").add(i);
+        }
+
+        List<String> expected = DotNotes.stream(objectNode)
+            .map(NotedEntry::path)
+            .collect(Collectors.toList());
+
+        List<String> actual = DotNotes.stream(objectNode)
+            .parallel()
+            .map(NotedEntry::path)
+            .collect(Collectors.toList());
+
+        assertEquals(actual.size(), 4000);
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void splitsWhilstInProgress() throws Exception {
+        JsonNode node = createNode();
+
+        List<String> expected = collect(node, null);
+        Random random = new Random(1);
+
+        for (int i = 0; i < 200; i++) {
+            Spliterator<NotedEntry> spliterator = DotNotes.stream(node).spliterator();
+            List<String> actual = new ArrayList<>();
+
+            drain(spliterator, actual, random);
+
+            assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void streamsIntoInflation() throws Exception {
+        JsonNode node = createNode();
+
+        Map<String, JsonNode> paths = DotNotes.stream(node)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+        ((ObjectNode) node).remove("empty");
+
+        assertEquals(DotNotes.inflate(paths), node);
+    }
+
+    @Test
+    public void streamsEmptyContainers() throws Exception {
+        assertEquals(DotNotes.stream(factory.objectNode()).count(), 0);
+        assertEquals(DotNotes.stream(factory.arrayNode().addArray().addObject()).count(), 0);
+    }
+
+    @Test
+    public void entriesActAsMapEntries() throws Exception {
+        NotedEntry entry = DotNotes.stream(factory.objectNode().put("test", 1)).findFirst().get();
+
+        Map.Entry<String, JsonNode> other = new LinkedHashMap.SimpleEntry<String, JsonNode>("test", factory.numberNode(1));
+
+        assertEquals(entry.getKey(), "test");
+        assertEquals(entry.getValue(), factory.numberNode(1));
+        assertEquals(entry.toString(), "test=1");
+        assertTrue(entry.equals(other));
+        assertFalse(entry.equals("test"));
+        assertEquals(entry.hashCode(), other.hashCode());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void entriesAreReadOnly() throws Exception {
+        DotNotes.stream(factory.arrayNode().add(1)).findFirst().get().setValue(null);
+    }
+
+    @Test
+    public void spliteratorsStopWhenExhausted() throws Exception {
+        Spliterator<NotedEntry> spliterator = DotNotes.stream(factory.arrayNode().add(1)).spliterator();
+
+        assertNull(spliterator.trySplit());
+        assertTrue(spliterator.tryAdvance(entry -> { }));
+        assertFalse(spliterator.tryAdvance(entry -> { }));
+        assertEquals(spliterator.estimateSize(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `stream`!")
+    public void throwErrorWhenProvidedNonObject() throws Exception {
+        DotNotes.stream(factory.nullNode());
+    }
+
+    private static void drain(Spliterator<NotedEntry> spliterator, List<String> output, Random random) {
+        while (true) {
+            // split at random points, draining the prefix first
+            if (random.nextInt(4) == 0) {
+                Spliterator<NotedEntry> prefix = spliterator.trySplit();
+                if (prefix != null) {
+                    drain(prefix, output, random);
+                }
+            }
+            if (!spliterator.tryAdvance(entry -> output.add(format(entry.key(), entry.value(), entry.path())))) {
+                return;
+            }
+        }
+    }
+
+    private static List<String> collect(JsonNode node, String prefix) {
+        final List<String> paths = new ArrayList<>();
+
+        DotNotes.recurse(node, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                paths.add(format(key, value, path));
+            }
+        }, prefix);
+
+        return paths;
+    }
+
+    private static String format(NotedKey key, JsonNode value, String path) {
+        return key.isNumber() + ":" + path + "=" + value;
+    }
+
+    private static JsonNode createNode() {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("first", 1);
+        objectNode.withArray("second").add(2).add(3).addObject().put("third", 4).put("fourth", 5);
+        objectNode.with("fifth").with("sixth").put("seventh", 6).withArray("eighth").add(7).add(8).add(9);
+        objectNode.put("quoted key", 10);
+        objectNode.withArray("empty");
+        objectNode.with("nested").withArray("list").addArray().add(11).add(12).addArray().add(13);
+        objectNode.put("last", 14);
+
+        return objectNode;
+    }
+}
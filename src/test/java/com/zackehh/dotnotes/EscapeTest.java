@@ -4,6 +4,7 @@ import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 
 public class EscapeTest {
 
@@ -63,6 +64,64 @@ public class EscapeTest {
         assertEquals(escaped, "[\"\"]");
     }
 
+    @Test
+    public void escapeUsingAnInternedKey() throws Exception {
+        NotedKey key = NotedKey.intern("my-test");
+
+        String escaped = DotNotes.escape(key);
+
+        assertNotNull(escaped);
+        assertEquals(escaped, "[\"my-test\"]");
+        assertSame(DotNotes.escape(key), escaped);
+        assertSame(DotNotes.escape(NotedKey.intern("my-test")), escaped);
+    }
+
+    @Test
+    public void escapeUsingASharedIndex() throws Exception {
+        String escaped = DotNotes.escape(5);
+
+        assertNotNull(escaped);
+        assertEquals(escaped, "[5]");
+        assertSame(DotNotes.escape(5), escaped);
+    }
+
+    @Test
+    public void escapeManyKeysIntoABuilder() throws Exception {
+        StringBuilder builder = new StringBuilder();
+
+        DotNotes.escape(new NotedKey[]{
+            NotedKey.of("test"), NotedKey.of(0), NotedKey.of("my-test"), NotedKey.of("$test")
+        }, builder);
+
+        assertEquals(builder.toString(), "test[0][\"my-test\"].$test");
+    }
+
+    @Test
+    public void escapeManyKeysOntoAPrefix() throws Exception {
+        StringBuilder builder = new StringBuilder("prefix");
+
+        DotNotes.escape(new NotedKey[]{ NotedKey.of("test"), NotedKey.of(1) }, builder);
+        DotNotes.escape(new NotedKey[]{ NotedKey.of("my-test") }, builder);
+
+        assertEquals(builder.toString(), "prefix.test[1][\"my-test\"]");
+    }
+
+    @Test
+    public void escapeManyKeysMatchingParsing() throws Exception {
+        String path = "test['my-key'][5].nested[\"quoted key\"]";
+
+        StringBuilder builder = new StringBuilder();
+
+        DotNotes.escape(DotNotes.keys(path).toArray(new NotedKey[0]), builder);
+
+        assertEquals(DotNotes.keys(builder.toString()), DotNotes.keys(path));
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unexpected non-string value provided!")
+    public void throwErrorAgainstManyKeys() throws Exception {
+        DotNotes.escape(new NotedKey[]{ NotedKey.of("test"), null }, new StringBuilder());
+    }
+
     @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unexpected non-string value provided!")
     public void throwErrorAgainst () throws Exception {
         DotNotes.escape((NotedKey) null);
@@ -0,0 +1,143 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ExtractTest {
+
+    private static final String DOCUMENT = "{\"a\":1,\"b\":{\"c\":[true,null,{\"d\":1.5}],\"e\":\"x\"},\"f g\":[[2,3]],\"h\":null}";
+
+    private static final String[] PATHS = {
+        "a", "b.c[0]", "b.c[2].d", "b.e", "b.c[2]", "['f g'][0][1]", "b.c[9].d", "h.i.j", "a", "b.c[1].x", "a.b", "b[0]", "z"
+    };
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void extractsMatchingGet() throws Exception {
+        JsonNode node = mapper.readTree(DOCUMENT);
+
+        DotExtractor extractor = DotExtractor.compile(PATHS);
+
+        JsonNode[] results = extractor.extract(jsonFactory.createParser(DOCUMENT));
+
+        assertEquals(extractor.size(), PATHS.length);
+        assertEquals(results.length, PATHS.length);
+
+        for (int i = 0; i < PATHS.length; i++) {
+            assertEquals(extractor.path(i), PATHS[i]);
+            assertEquals(results[i], DotNotes.get(node, PATHS[i]), PATHS[i]);
+        }
+    }
+
+    @Test
+    public void extractsFromArrays() throws Exception {
+        JsonNode[] results = DotExtractor.compile("[1].a", "[0]", "[2]").extract(jsonFactory.createParser("[1,{\"a\":[2]}]"));
+
+        assertEquals(results[0], mapper.readTree("[2]"));
+        assertEquals(results[1].asInt(), 1);
+        assertTrue(results[2].isMissingNode());
+    }
+
+    @Test
+    public void stopsOnceResolved() throws Exception {
+        // everything after the resolved paths is invalid
+        String input = "{\"a\":{\"b\":1,\"c\":2},\"d\":[1,2,3],\"e\": ] invalid";
+
+        JsonParser parser = jsonFactory.createParser(input);
+
+        JsonNode[] results = DotExtractor.compile("a.b", "a.x", "d[1]").extract(parser);
+
+        assertEquals(results[0].asInt(), 1);
+        assertTrue(results[1].isMissingNode());
+        assertEquals(results[2].asInt(), 2);
+    }
+
+    @Test
+    public void extractsFromScalars() throws Exception {
+        JsonNode[] results = DotExtractor.compile("a").extract(jsonFactory.createParser("1"));
+
+        assertTrue(results[0].isMissingNode());
+    }
+
+    @Test
+    public void extractsFromTruncatedInput() throws Exception {
+        JsonNode[] results = DotExtractor.compile("a").extract(jsonFactory.createParser("{\"a\":1,\"c\":{"));
+
+        assertEquals(results[0].asInt(), 1);
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void throwErrorWhenTruncatedBeforeResolved() throws Exception {
+        DotExtractor.compile("a", "b").extract(jsonFactory.createParser("{\"a\":1,\"c\":{"));
+    }
+
+    @Test
+    public void extractsFromFiles() throws Exception {
+        Path file = Files.createTempFile("extract", ".json");
+
+        try {
+            Files.write(file, DOCUMENT.getBytes(StandardCharsets.UTF_8));
+
+            JsonNode node = mapper.readTree(DOCUMENT);
+            JsonNode[] results = DotExtractor.compile(PATHS).extract(file);
+
+            for (int i = 0; i < PATHS.length; i++) {
+                assertEquals(results[i], DotNotes.get(node, PATHS[i]), PATHS[i]);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void readsMappedWindows() throws Exception {
+        Path file = Files.createTempFile("mapped", ".json");
+
+        try {
+            Files.write(file, DOCUMENT.getBytes(StandardCharsets.UTF_8));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                 InputStream stream = new MappedInputStream(channel, 7)) {
+
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[5];
+
+                int first = stream.read();
+                output.write(first);
+
+                for (int read; (read = stream.read(buffer, 0, buffer.length)) != -1; ) {
+                    assertTrue(read <= 5);
+                    output.write(buffer, 0, read);
+                }
+
+                assertEquals(stream.read(), -1);
+                assertEquals(new String(output.toByteArray(), StandardCharsets.UTF_8), DOCUMENT);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse empty string!")
+    public void throwErrorWhenProvidedEmptyPath() throws Exception {
+        DotExtractor.compile("a", "");
+    }
+}
@@ -0,0 +1,75 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class FlattenTest {
+
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void flattensMatchingRecurse() throws Exception {
+        JsonNode node = mapper.readTree("{\"a\":1,\"b\":{\"c\":[true,null,{\"d\":1.5}],\"e\":[]},\"f g\":\"x\",\"1\":[[2]]}");
+
+        final List<String> paths = new ArrayList<>();
+        final List<JsonNode> values = new ArrayList<>();
+
+        DotNotes.recurse(node, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                paths.add(path);
+                values.add(value);
+            }
+        });
+
+        Map<String, JsonNode> flattened = DotNotes.flatten(node);
+
+        assertEquals(new ArrayList<>(flattened.keySet()), paths);
+        assertEquals(new ArrayList<>(flattened.values()), values);
+    }
+
+    @Test
+    public void flattensIntoProvidedMap() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("b", 2);
+        objectNode.withArray("a").add(1);
+
+        TreeMap<String, JsonNode> target = new TreeMap<>();
+        TreeMap<String, JsonNode> flattened = DotNotes.flatten(objectNode, target);
+
+        assertSame(flattened, target);
+        assertEquals(flattened.firstKey(), "a[0]");
+        assertEquals(flattened.lastKey(), "b");
+    }
+
+    @Test
+    public void flattensEmptyContainers() throws Exception {
+        assertTrue(DotNotes.flatten(factory.objectNode()).isEmpty());
+        assertTrue(DotNotes.flatten(factory.arrayNode()).isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `flatten`!")
+    public void throwErrorWhenProvidedNonObject() throws Exception {
+        DotNotes.flatten(factory.nullNode());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `flatten`!")
+    public void throwErrorWhenProvidedNonObjectWithTarget() throws Exception {
+        DotNotes.flatten(null, new TreeMap<String, JsonNode>());
+    }
+}
@@ -7,6 +7,9 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
@@ -275,6 +278,80 @@ public class GetTest {
         assertTrue(value.isNull());
     }
 
+    @Test
+    public void getUsingMissingPathWithoutParsingRemainder() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("test", 5);
+
+        JsonNode value = DotNotes.get(objectNode, "missing.test..test[");
+
+        assertNotNull(value);
+        assertTrue(value.isMissingNode());
+    }
+
+    @Test
+    public void getUsingNulledPathWithoutParsingRemainder() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.set("test", NullNode.getInstance());
+
+        JsonNode value = DotNotes.get(objectNode, "test.test[");
+
+        assertNotNull(value);
+        assertTrue(value.isNull());
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse key with trailing dot!")
+    public void throwErrorWhenProvidedInvalidKeyBeforeDeadEnd() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.with("test").put("test", 5);
+
+        DotNotes.get(objectNode, "test.test.");
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse key with trailing dot!")
+    public void throwErrorWhenProvidedInvalidKeyAfterDeadEndWithCache() throws Exception {
+        DotNotes.setCache(new KeyCache(16));
+        try {
+            DotNotes.get(factory.objectNode(), "missing.test.");
+        } finally {
+            DotNotes.setCache(null);
+        }
+    }
+
+    @Test
+    public void getUsingByteRange() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.with("test").withArray("list").add(5);
+        objectNode.with("test").put("\u00fcber", 6);
+
+        byte[] ascii = "xx test.list[0] xx".getBytes(StandardCharsets.UTF_8);
+        byte[] utf8 = "test['\u00fcber']".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(DotNotes.get(objectNode, ascii, 3, 12).asInt(), 5);
+        assertEquals(DotNotes.get(objectNode, utf8, 0, utf8.length).asInt(), 6);
+        assertTrue(DotNotes.get(null, ascii, 3, 12).isMissingNode());
+    }
+
+    @Test
+    public void getUsingCharSequence() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.with("test").put("test", 5);
+
+        assertEquals(DotNotes.get(objectNode, new StringBuilder("test.test")).asInt(), 5);
+        assertEquals(DotNotes.get(objectNode, (CharSequence) "test.test").asInt(), 5);
+        assertTrue(DotNotes.get(objectNode, Utf8Sequence.of(ByteBuffer.wrap("test.missing".getBytes(StandardCharsets.UTF_8)))).isMissingNode());
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse '123' at character '1', column 1!")
+    public void throwErrorWhenProvidedInvalidByteRange() throws Exception {
+        DotNotes.get(factory.objectNode(), "test.123".getBytes(StandardCharsets.UTF_8), 5, 3);
+    }
+
     @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse '123' at character '1', column 1!")
     public void throwErrorWhenProvidedInvalidKey() throws Exception {
         DotNotes.get(factory.numberNode(5), "123");
@@ -0,0 +1,90 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class InflateTest {
+
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void inflatesFlattenedDocument() throws Exception {
+        JsonNode node = mapper.readTree("{\"a\":1,\"b\":{\"c\":[true,null,{\"d\":1.5}],\"e\":\"x\"},\"f g\":[[2,3]]}");
+
+        assertEquals(DotNotes.inflate(DotNotes.flatten(node)), node);
+    }
+
+    @Test
+    public void inflatesArraysInIndexOrder() throws Exception {
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("[3].a", factory.numberNode(3));
+        values.put("[1].a", factory.numberNode(1));
+        values.put("[1].b", factory.numberNode(2));
+
+        JsonNode inflated = DotNotes.inflate(values);
+
+        assertTrue(inflated.isArray());
+        assertEquals(inflated.size(), 2);
+        assertEquals(inflated.get(0).get("a").asInt(), 1);
+        assertEquals(inflated.get(0).get("b").asInt(), 2);
+        assertEquals(inflated.get(1).get("a").asInt(), 3);
+    }
+
+    @Test
+    public void inflatesEquivalentPathsOnce() throws Exception {
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("a.b", factory.numberNode(1));
+        values.put("['a']['b']", factory.numberNode(2));
+
+        JsonNode inflated = DotNotes.inflate(values);
+
+        assertEquals(inflated.size(), 1);
+        assertEquals(inflated.get("a").get("b").asInt(), 2);
+    }
+
+    @Test
+    public void inflatesEmptyMap() throws Exception {
+        JsonNode inflated = DotNotes.inflate(Collections.<String, JsonNode>emptyMap());
+
+        assertTrue(inflated.isObject());
+        assertEquals(inflated.size(), 0);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to inflate both indices and fields into the same container!")
+    public void throwErrorWhenProvidedMixedContainers() throws Exception {
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("a.b", factory.numberNode(1));
+        values.put("a[0]", factory.numberNode(2));
+
+        DotNotes.inflate(values);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to inflate both a value and keys into the same path!")
+    public void throwErrorWhenProvidedConflictingPaths() throws Exception {
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+
+        values.put("a", factory.numberNode(1));
+        values.put("a.b", factory.numberNode(2));
+
+        DotNotes.inflate(values);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse key with trailing dot!")
+    public void throwErrorWhenProvidedInvalidPath() throws Exception {
+        DotNotes.inflate(Collections.<String, JsonNode>singletonMap("a.", factory.numberNode(1)));
+    }
+}
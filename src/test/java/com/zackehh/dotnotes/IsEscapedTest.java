@@ -57,6 +57,36 @@ public class IsEscapedTest {
         assertFalse(DotNotes.isEscaped("\"test\""));
     }
 
+    @Test
+    public void checksIfAQuotedKeyContainingItsTerminatorIsEscaped() throws Exception {
+        assertTrue(DotNotes.isEscaped("['te']st']"));
+        assertTrue(DotNotes.isEscaped("[\"te\"]st\"]"));
+    }
+
+    @Test
+    public void checksIfAMismatchedQuotedKeyIsEscaped() throws Exception {
+        assertFalse(DotNotes.isEscaped("['test\"]"));
+        assertFalse(DotNotes.isEscaped("[']"));
+    }
+
+    @Test
+    public void checksIfAMultiLineQuotedKeyIsEscaped() throws Exception {
+        assertFalse(DotNotes.isEscaped("['te\nst']"));
+    }
+
+    @Test
+    public void checksIfAMixedArrayKeyIsEscaped() throws Exception {
+        assertFalse(DotNotes.isEscaped("[0a]"));
+        assertFalse(DotNotes.isEscaped("[]"));
+    }
+
+    @Test
+    public void checksIfAKeyWithATrailingLineTerminatorIsEscaped() throws Exception {
+        assertTrue(DotNotes.isEscaped("test\n"));
+        assertTrue(DotNotes.isEscaped("[0]\r\n"));
+        assertFalse(DotNotes.isEscaped("test\n\n"));
+    }
+
     @Test
     public void checksIfAMissingKeyIsEscaped() throws Exception {
         assertFalse(DotNotes.isEscaped(null));
@@ -0,0 +1,131 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class KeyCacheTest {
+
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    @Test
+    public void cachesCompiledPaths() throws Exception {
+        KeyCache cache = new KeyCache(16);
+
+        DotPath first = cache.compile("a.b[0]");
+        DotPath second = cache.compile("a.b[0]");
+
+        assertSame(first, second);
+        assertEquals(cache.size(), 1);
+        assertEquals(cache.hits(), 1);
+        assertEquals(cache.misses(), 1);
+        assertEquals(cache.evictions(), 0);
+
+        cache.clear();
+
+        assertEquals(cache.size(), 0);
+        assertEquals(cache.hits(), 1);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedPaths() throws Exception {
+        KeyCache cache = new KeyCache(1);
+
+        DotPath first = cache.compile("a");
+
+        cache.compile("b");
+
+        assertEquals(cache.size(), 1);
+        assertEquals(cache.evictions(), 1);
+        assertEquals(cache.misses(), 2);
+
+        assertTrue(first != cache.compile("a"));
+        assertEquals(cache.evictions(), 2);
+    }
+
+    @Test
+    public void boundsSizeAcrossSegments() throws Exception {
+        KeyCache cache = new KeyCache(64);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.compile("key" + i);
+        }
+
+        assertTrue(cache.size() <= 64);
+        assertEquals(cache.evictions(), 1000 - cache.size());
+    }
+
+    @Test
+    public void boundsSizeExactlyForUnevenSizes() throws Exception {
+        for (int size : new int[]{ 3, 17, 50, 100 }) {
+            KeyCache cache = new KeyCache(size);
+
+            for (int i = 0; i < 5000; i++) {
+                cache.compile("key" + i);
+            }
+
+            assertEquals(cache.size(), size, String.valueOf(size));
+            assertEquals(cache.evictions(), 5000 - size);
+        }
+    }
+
+    @Test
+    public void usedTransparentlyByDotNotes() throws Exception {
+        KeyCache cache = new KeyCache(16);
+
+        DotNotes.setCache(cache);
+
+        try {
+            assertSame(DotNotes.getCache(), cache);
+
+            ObjectNode objectNode = factory.objectNode();
+
+            DotNotes.create(objectNode, "test.test", factory.numberNode(5));
+
+            JsonNode value = DotNotes.get(objectNode, "test.test");
+
+            assertEquals(value.asInt(), 5);
+            assertEquals(DotNotes.keys("test.test").size(), 2);
+
+            assertEquals(cache.misses(), 1);
+            assertEquals(cache.hits(), 2);
+        } finally {
+            DotNotes.setCache(null);
+        }
+
+        assertNull(DotNotes.getCache());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void returnsReadOnlyKeys() throws Exception {
+        DotNotes.setCache(new KeyCache(16));
+
+        List<NotedKey> keys;
+
+        try {
+            keys = DotNotes.keys("test.test");
+        } finally {
+            DotNotes.setCache(null);
+        }
+
+        keys.clear();
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse empty string!")
+    public void throwErrorWhenProvidedNullKey() throws Exception {
+        new KeyCache(16).compile(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Cache size must be positive!")
+    public void throwErrorWhenProvidedInvalidSize() throws Exception {
+        new KeyCache(0);
+    }
+}
@@ -2,6 +2,7 @@ package com.zackehh.dotnotes;
 
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.testng.Assert.assertEquals;
@@ -347,4 +348,61 @@ public class KeysTest {
     public void throwErrorWhenProvidedSequentialDots() throws Exception {
         DotNotes.keys("test..test");
     }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse '\\['te\nst']' at character '\\[', column 1!")
+    public void throwErrorWhenProvidedLineTerminatorInQuotes() throws Exception {
+        DotNotes.keys("['te\nst']");
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse path longer than 65536 characters!")
+    public void throwErrorWhenProvidedOverlyLongPath() throws Exception {
+        StringBuilder path = new StringBuilder("['");
+
+        for (int i = 0; i < KeyScanner.MAX_LENGTH; i++) {
+            path.append('a');
+        }
+
+        DotNotes.keys(path.append("']").toString());
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse path deeper than 4096 keys!")
+    public void throwErrorWhenProvidedOverlyDeepPath() throws Exception {
+        StringBuilder path = new StringBuilder();
+
+        for (int i = 0; i <= KeyScanner.MAX_DEPTH; i++) {
+            path.append("[0]");
+        }
+
+        DotNotes.keys(path.toString());
+    }
+
+    @Test
+    public void parseUsingByteRange() throws Exception {
+        String path = "test['quoted key'][5].$accessor[\"\u00fcber\"]";
+        byte[] bytes = ("xx" + path).getBytes(StandardCharsets.UTF_8);
+
+        List<NotedKey> keys = DotNotes.keys(bytes, 2, bytes.length - 2);
+
+        assertEquals(keys, DotNotes.keys(path));
+        assertEquals(keys.get(4).asString(), "\u00fcber");
+    }
+
+    @Test
+    public void parseUsingCharSequence() throws Exception {
+        List<NotedKey> keys = DotNotes.keys(new StringBuilder("test[0].test"));
+
+        assertEquals(keys.size(), 3);
+        assertEquals(keys, DotNotes.keys("test[0].test"));
+        assertEquals(DotNotes.keys((CharSequence) "test[0].test"), keys);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse key with trailing dot!")
+    public void throwErrorWhenProvidedInvalidByteRange() throws Exception {
+        DotNotes.keys("test.".getBytes(StandardCharsets.UTF_8), 0, 5);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse empty string!")
+    public void throwErrorWhenProvidedEmptyByteRange() throws Exception {
+        DotNotes.keys("test".getBytes(StandardCharsets.UTF_8), 2, 0);
+    }
 }
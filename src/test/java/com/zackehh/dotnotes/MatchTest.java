@@ -0,0 +1,146 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class MatchTest {
+
+    private static final String DOCUMENT = "{\"items\":[{\"id\":1,\"price\":5,\"sku\":\"a\"},{\"id\":2,\"price\":7,"
+            + "\"parts\":[{\"sku\":\"b\"}]}],\"meta\":{\"id\":3,\"sku\":\"c\"},\"id\":4}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void matchesArrayWildcards() throws Exception {
+        assertEquals(paths("items[*].price"), Arrays.asList("items[0].price=5", "items[1].price=7"));
+    }
+
+    @Test
+    public void matchesFieldWildcards() throws Exception {
+        assertEquals(paths("*.id"), Arrays.asList("meta.id=3"));
+        assertEquals(paths("items.*.id"), Arrays.asList("items[0].id=1", "items[1].id=2"));
+    }
+
+    @Test
+    public void matchesDescents() throws Exception {
+        assertEquals(paths("..sku"), Arrays.asList("items[0].sku=\"a\"", "items[1].parts[0].sku=\"b\"", "meta.sku=\"c\""));
+        assertEquals(paths("items..sku"), Arrays.asList("items[0].sku=\"a\"", "items[1].parts[0].sku=\"b\""));
+        assertEquals(paths("..parts[0].sku"), Arrays.asList("items[1].parts[0].sku=\"b\""));
+        assertEquals(paths("items..[0].sku"), Arrays.asList("items[0].sku=\"a\"", "items[1].parts[0].sku=\"b\""));
+    }
+
+    @Test
+    public void matchesDescentWildcards() throws Exception {
+        assertEquals(paths("meta..*"), Arrays.asList("meta.id=3", "meta.sku=\"c\""));
+        assertEquals(paths("items[1]..*").size(), 5);
+    }
+
+    @Test
+    public void matchesContainers() throws Exception {
+        List<JsonNode> results = DotMatcher.compile("items[*]").find(mapper.readTree(DOCUMENT));
+
+        assertEquals(results.size(), 2);
+        assertTrue(results.get(0).isObject());
+    }
+
+    @Test
+    public void matchesPlainPathsLikeGet() throws Exception {
+        JsonNode node = mapper.readTree(DOCUMENT);
+
+        for (String path : new String[]{ "id", "items[1].parts[0]", "meta['sku']", "items[0].price" }) {
+            assertEquals(DotMatcher.compile(path).find(node), Arrays.asList(DotNotes.get(node, path)), path);
+        }
+
+        assertTrue(DotMatcher.compile("items[5].id").find(node).isEmpty());
+        assertTrue(DotMatcher.compile("items.id").find(node).isEmpty());
+        assertTrue(DotMatcher.compile("meta[0]").find(node).isEmpty());
+    }
+
+    @Test
+    public void matchesWithPrefix() throws Exception {
+        final List<String> paths = new ArrayList<>();
+
+        DotMatcher.compile("meta.*").match(mapper.readTree(DOCUMENT), new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                paths.add(path);
+            }
+        }, "root");
+
+        assertEquals(paths, Arrays.asList("root.meta.id", "root.meta.sku"));
+    }
+
+    @Test
+    public void matchesNothingInScalars() throws Exception {
+        DotMatcher matcher = DotMatcher.compile("..*");
+
+        assertTrue(matcher.find(null).isEmpty());
+        assertTrue(matcher.find(JsonNodeFactory.instance.numberNode(1)).isEmpty());
+    }
+
+    @Test
+    public void matchesDeeplyNestedDescents() throws Exception {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        ObjectNode node = root;
+
+        for (int i = 0; i < 50000; i++) {
+            node = node.putObject("a");
+        }
+        node.put("sku", 1);
+
+        assertEquals(DotMatcher.compile("..sku").find(root).size(), 1);
+    }
+
+    @Test
+    public void returnsSourcePattern() throws Exception {
+        assertEquals(DotMatcher.compile("items[*]..sku").toString(), "items[*]..sku");
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse key with trailing dot!")
+    public void throwErrorWhenProvidedTrailingDescent() throws Exception {
+        DotMatcher.compile("items..");
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void throwErrorWhenProvidedSingleLeadingDot() throws Exception {
+        DotMatcher.compile(".items");
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void throwErrorWhenProvidedUnclosedWildcard() throws Exception {
+        DotMatcher.compile("items[*");
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void throwErrorWhenProvidedTripleDot() throws Exception {
+        DotMatcher.compile("items...sku");
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void throwErrorWhenParsingPatternAsKeys() throws Exception {
+        DotNotes.keys("items[*]");
+    }
+
+    private List<String> paths(String pattern) throws Exception {
+        final List<String> paths = new ArrayList<>();
+
+        DotMatcher.compile(pattern).match(mapper.readTree(DOCUMENT), new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                paths.add(path + "=" + value);
+            }
+        });
+
+        return paths;
+    }
+}
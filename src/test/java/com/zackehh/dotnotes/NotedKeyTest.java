@@ -19,7 +19,7 @@ public class NotedKeyTest {
         Assert.assertNotNull(strKey.asString());
         Assert.assertEquals(strKey.asString(), "test");
 
-        NotedKey numKey = getCtor(Integer.class).newInstance(5);
+        NotedKey numKey = getCtor(int.class).newInstance(5);
 
         Assert.assertNotNull(numKey);
         Assert.assertFalse(numKey.isString());
@@ -75,6 +75,54 @@ public class NotedKeyTest {
         Assert.assertEquals(numKey.asNumber().toString(), "5");
     }
 
+    @Test
+    public void testPrimitiveIndexAccess() throws Exception {
+        NotedKey numKey = NotedKey.of(5);
+
+        Assert.assertEquals(numKey.asInt(), 5);
+        Assert.assertEquals(NotedKey.of(Integer.MAX_VALUE).asInt(), Integer.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "NotedKey is not a Number!")
+    public void testPrimitiveIndexAccessOnString() throws Exception {
+        NotedKey.of("test").asInt();
+    }
+
+    @Test
+    public void testSharedIndexInstances() throws Exception {
+        Assert.assertSame(NotedKey.of(0), NotedKey.of(0));
+        Assert.assertSame(NotedKey.of(1023), NotedKey.of(1023));
+        Assert.assertSame(NotedKey.of((Object) 512), NotedKey.of(512));
+        Assert.assertNotSame(NotedKey.of(1024), NotedKey.of(1024));
+        Assert.assertNotSame(NotedKey.of(-1), NotedKey.of(-1));
+    }
+
+    @Test
+    public void testInternedNameInstances() throws Exception {
+        NotedKey strKey = NotedKey.intern("interned");
+
+        Assert.assertNotNull(strKey);
+        Assert.assertTrue(strKey.isString());
+        Assert.assertEquals(strKey.asString(), "interned");
+        Assert.assertSame(NotedKey.intern(new String("interned")), strKey);
+        Assert.assertNotSame(NotedKey.of("interned"), strKey);
+        Assert.assertNull(NotedKey.intern(null));
+    }
+
+    @Test
+    public void testValueEquality() throws Exception {
+        Assert.assertEquals(NotedKey.of("test"), NotedKey.of("test"));
+        Assert.assertEquals(NotedKey.of("test").hashCode(), NotedKey.of("test").hashCode());
+        Assert.assertEquals(NotedKey.of(2048), NotedKey.of(2048));
+        Assert.assertEquals(NotedKey.of(2048).hashCode(), NotedKey.of(2048).hashCode());
+        Assert.assertEquals(getCtor(int.class).newInstance(5), NotedKey.of(5));
+
+        Assert.assertFalse(NotedKey.of("5").equals(NotedKey.of(5)));
+        Assert.assertFalse(NotedKey.of(5).equals(NotedKey.of("5")));
+        Assert.assertFalse(NotedKey.of(5).equals(NotedKey.of(6)));
+        Assert.assertFalse(NotedKey.of(5).equals(5));
+    }
+
     private <T> Constructor<NotedKey> getCtor(Class<T> tClass) throws NoSuchMethodException {
         Constructor<NotedKey> ctor = NotedKey.class.getDeclaredConstructor(tClass);
         ctor.setAccessible(true);
@@ -0,0 +1,160 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class ParallelFlattenTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @AfterClass
+    public void shutdown() {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    public void flattensInInputOrder() throws Exception {
+        StringBuilder input = new StringBuilder();
+        List<Map<String, JsonNode>> expected = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            String line = "{\"id\":" + i + ",\"tags\":[\"" + i + "\"],\"nested\":{\"even\":" + (i % 2 == 0) + "}}";
+            input.append(line).append('\n');
+            expected.add(DotNotes.flatten(mapper.readTree(line)));
+        }
+
+        List<Map<String, JsonNode>> records = new ArrayList<>();
+
+        long count = new ParallelFlattener(pool, 256, 3).flatten(channel(input.toString()), records::add);
+
+        assertEquals(count, 2000L);
+        assertEquals(records, expected);
+    }
+
+    @Test
+    public void flattensWithDefaults() throws Exception {
+        List<Map<String, JsonNode>> records = new ArrayList<>();
+
+        new ParallelFlattener(pool).flatten(channel("{\"a\":1}\n[2]"), records::add);
+
+        assertEquals(records.size(), 2);
+        assertEquals(records.get(0).get("a").asInt(), 1);
+        assertEquals(records.get(1).get("[0]").asInt(), 2);
+    }
+
+    @Test
+    public void skipsBlankLinesAndCarriageReturns() throws Exception {
+        List<Map<String, JsonNode>> records = new ArrayList<>();
+
+        long count = new ParallelFlattener(pool, 8, 1).flatten(channel("\n{\"a\":1}\r\n  \r\n\n{\"b\":{\"c\":2}}\r\n"), records::add);
+
+        assertEquals(count, 2L);
+        assertEquals(records.get(0).get("a").asInt(), 1);
+        assertEquals(records.get(1).get("b.c").asInt(), 2);
+    }
+
+    @Test
+    public void flattensLinesLargerThanChunks() throws Exception {
+        StringBuilder line = new StringBuilder("{");
+        for (int i = 0; i < 100; i++) {
+            line.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":").append(i);
+        }
+        line.append('}');
+
+        List<Map<String, JsonNode>> records = new ArrayList<>();
+
+        new ParallelFlattener(pool, 16, 2).flatten(channel(line + "\n" + line), records::add);
+
+        assertEquals(records.size(), 2);
+        assertEquals(records.get(0).size(), 100);
+        assertEquals(records.get(1).get("k99").asInt(), 99);
+    }
+
+    @Test
+    public void flattensEmptyInput() throws Exception {
+        assertEquals(new ParallelFlattener(pool, 16, 2).flatten(channel(""), record -> { }), 0L);
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "Unable to parse record at offset 8!")
+    public void throwErrorWhenProvidedInvalidRecord() throws Exception {
+        new ParallelFlattener(pool, 64, 2).flatten(channel("{\"a\":1}\n{\"a\":}\n{\"a\":3}"), record -> { });
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "Unable to parse record at offset 0!")
+    public void throwErrorWhenProvidedTrailingContent() throws Exception {
+        new ParallelFlattener(pool, 64, 2).flatten(channel("{\"a\":1} {\"a\":2}"), record -> { });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object record at offset 0!")
+    public void throwErrorWhenProvidedScalarRecord() throws Exception {
+        new ParallelFlattener(pool, 64, 2).flatten(channel("1\n"), record -> { });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object record at offset 8!")
+    public void throwErrorWhenProvidedScalarRecordAfterOthers() throws Exception {
+        new ParallelFlattener(pool, 64, 2).flatten(channel("{\"a\":1}\n5\n{\"a\":3}"), record -> { });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object record at offset 80!")
+    public void throwErrorWhenProvidedScalarRecordInLaterChunk() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            builder.append("{\"a\":").append(i).append("}\n");
+        }
+        builder.append("\"text\"\n");
+
+        new ParallelFlattener(pool, 16, 2).flatten(channel(builder.toString()), record -> { });
+    }
+
+    @Test
+    public void throwErrorFromHandler() throws Exception {
+        final List<Map<String, JsonNode>> records = new ArrayList<>();
+
+        try {
+            new ParallelFlattener(pool, 8, 2).flatten(channel("{\"a\":1}\n{\"a\":2}\n{\"a\":3}\n"), record -> {
+                if (records.size() == 1) {
+                    throw new IOException("Handler failure");
+                }
+                records.add(record);
+            });
+            fail("Expected handler failure!");
+        } catch (IOException e) {
+            assertEquals(e.getMessage(), "Handler failure");
+        }
+
+        assertEquals(records.size(), 1);
+        assertEquals(records.get(0).get("a").asInt(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Chunk size must be positive!")
+    public void throwErrorWhenProvidedInvalidChunkSize() {
+        new ParallelFlattener(pool, 0, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Queue depth must be positive!")
+    public void throwErrorWhenProvidedInvalidDepth() {
+        new ParallelFlattener(pool, 1, 0);
+    }
+
+    private static ReadableByteChannel channel(String input) {
+        return Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,202 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+
+public class ParallelRecurseTest {
+
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void recursesInSequentialOrder() throws Exception {
+        JsonNode node = createLargeNode();
+
+        List<String> expected = collect(node, null);
+        List<String> actual = new ArrayList<>();
+
+        final Thread caller = Thread.currentThread();
+
+        new ParallelRecursor(pool, 8, true).recurse(node, new CollectingIterator(actual) {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                assertSame(Thread.currentThread(), caller);
+                super.execute(key, value, path);
+            }
+        });
+
+        assertEquals(actual.size(), 14008);
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void recursesInAnyOrder() throws Exception {
+        JsonNode node = createLargeNode();
+
+        List<String> expected = collect(node, "prefix");
+        List<String> actual = Collections.synchronizedList(new ArrayList<String>());
+
+        new ParallelRecursor(pool, 8, false).recurse(node, new CollectingIterator(actual), "prefix");
+
+        Collections.sort(expected);
+        Collections.sort(actual);
+
+        assertEquals(actual.size(), 14008);
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void recursesAcrossThreads() throws Exception {
+        ArrayNode arrayNode = factory.arrayNode();
+
+        for (int i = 0; i < 100000; i++) {
+            arrayNode.add(i);
+        }
+
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+        new ParallelRecursor(pool, 16, false).recurse(arrayNode, new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                assertEquals(path.toString(), "[" + key.asNumber() + "]");
+                assertEquals(value.asInt(), (int) key.asNumber());
+                threads.add(Thread.currentThread());
+            }
+        });
+
+        assertEquals(threads.size(), 100000);
+        assertNotEquals(threads.indexOf(Thread.currentThread()), 0);
+    }
+
+    @Test
+    public void recursesWithoutPaths() throws Exception {
+        JsonNode node = createLargeNode();
+
+        final List<String> paths = new ArrayList<>();
+
+        new ParallelRecursor(pool, 8, true).recurse(node, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                paths.add(path);
+            }
+
+            @Override
+            protected boolean requirePathGeneration() {
+                return false;
+            }
+        }, "prefix");
+
+        assertEquals(paths.size(), 14008);
+        assertEquals(paths.get(0), "prefix");
+        assertEquals(paths.get(14007), "prefix");
+    }
+
+    @Test
+    public void recursesSmallContainersDirectly() throws Exception {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("first", 1);
+        objectNode.withArray("second").add(2);
+
+        List<String> actual = new ArrayList<>();
+
+        new ParallelRecursor(pool).recurse(objectNode, new CollectingIterator(actual));
+
+        assertEquals(actual, collect(objectNode, null));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = ".*Handler failure")
+    public void propagateHandlerErrors() throws Exception {
+        new ParallelRecursor(pool, 8, false).recurse(createLargeNode(), new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                if (path.equals("wide.field500")) {
+                    throw new IllegalStateException("Handler failure");
+                }
+            }
+        });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Threshold must be positive!")
+    public void throwErrorWhenProvidedNonPositiveThreshold() throws Exception {
+        new ParallelRecursor(pool, 0, false);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `recurse`!")
+    public void throwErrorWhenProvidedNonObject() throws Exception {
+        new ParallelRecursor(pool).recurse(factory.nullNode(), new CollectingIterator(new ArrayList<String>()));
+    }
+
+    private static JsonNode createLargeNode() {
+        ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("first", 1);
+
+        ArrayNode values = objectNode.withArray("values");
+        for (int i = 0; i < 10000; i++) {
+            values.addObject().put("index", i);
+        }
+
+        ObjectNode wide = objectNode.with("wide");
+        for (int i = 0; i < 1000; i++) {
+            wide.put("field" + i, i);
+        }
+
+        // a small container holding a large one
+        ArrayNode nested = objectNode.withArray("nested").addArray().addArray();
+        for (int i = 0; i < 3000; i++) {
+            nested.add(i);
+        }
+
+        objectNode.put("quoted key", 2);
+        objectNode.withArray("empty");
+        objectNode.put("last", 3);
+
+        ArrayNode padding = objectNode.withArray("padding");
+        for (int i = 0; i < 5; i++) {
+            padding.add(i);
+        }
+
+        // 14008 leaves in total
+        return objectNode;
+    }
+
+    private static List<String> collect(JsonNode node, String prefix) {
+        List<String> paths = new ArrayList<>();
+        DotNotes.recurse(node, new CollectingIterator(paths), prefix);
+        return paths;
+    }
+
+    private static class CollectingIterator extends DotNotes.NodeIterator {
+
+        private final List<String> paths;
+
+        CollectingIterator(List<String> paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        protected void execute(NotedKey key, JsonNode value, String path) {
+            paths.add(path + "=" + value);
+        }
+    }
+}
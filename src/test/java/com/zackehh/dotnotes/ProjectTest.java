@@ -0,0 +1,80 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+public class ProjectTest {
+
+    private static final String DOCUMENT = "{\"a\":1,\"b\":{\"c\":[true,null,{\"d\":1.5,\"e\":2}],\"e\":\"x\"},"
+            + "\"f g\":[[2,3]],\"h\":null,\"i\":{\"j\":{\"k\":1}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void projectsSelectedPaths() throws Exception {
+        JsonNode node = mapper.readTree(DOCUMENT);
+
+        JsonNode projection = DotSelector.compile("b.c[2].d", "a", "h", "['f g'][0][1]").project(node);
+
+        assertEquals(projection, mapper.readTree("{\"b\":{\"c\":[{\"d\":1.5}]},\"a\":1,\"h\":null,\"f g\":[[3]]}"));
+    }
+
+    @Test
+    public void projectsLikeCreate() throws Exception {
+        JsonNode node = mapper.readTree(DOCUMENT);
+
+        String[] paths = { "b.c[2].d", "b.e", "b.c[0]", "i.j", "a", "missing.x", "a.b", "b.c[7]" };
+
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+        for (String path : paths) {
+            JsonNode value = DotNotes.get(node, path);
+            if (!value.isMissingNode()) {
+                values.put(path, value);
+            }
+        }
+
+        assertEquals(DotSelector.compile(paths).project(node), DotNotes.create(null, values));
+    }
+
+    @Test
+    public void projectsWholeSubtrees() throws Exception {
+        JsonNode node = mapper.readTree(DOCUMENT);
+
+        JsonNode projection = DotSelector.compile("i", "i.j.k").project(node);
+
+        assertEquals(projection.path("i"), node.path("i"));
+        assertNotSame(projection.path("i"), node.path("i"));
+
+        ((ObjectNode) projection.path("i")).put("z", 1);
+
+        assertTrue(node.path("i").path("z").isMissingNode());
+    }
+
+    @Test
+    public void projectsEmptyContainers() throws Exception {
+        DotSelector selector = DotSelector.compile("x.y", "[0]");
+
+        assertEquals(selector.project(mapper.readTree(DOCUMENT)), mapper.createObjectNode());
+        assertEquals(selector.project(mapper.readTree("[]")), mapper.createArrayNode());
+        assertEquals(selector.project(mapper.readTree("[[1]]")), mapper.readTree("[[1]]"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `project`!")
+    public void throwErrorWhenProvidedNonContainer() throws Exception {
+        DotSelector.compile("a").project(mapper.readTree("1"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `project`!")
+    public void throwErrorWhenProvidedNull() throws Exception {
+        DotSelector.compile("a").project(null);
+    }
+}
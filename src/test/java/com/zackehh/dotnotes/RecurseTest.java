@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -15,6 +16,8 @@ import java.util.List;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class RecurseTest {
@@ -366,6 +369,164 @@ public class RecurseTest {
         assertEquals(iterator[0], 1);
     }
 
+    @Test
+    public void iteratesDeeplyNestedValues() throws Exception {
+        final ArrayNode arrayNode = factory.arrayNode();
+
+        ArrayNode current = arrayNode;
+
+        for (int i = 0; i < 5000; i++) {
+            current = current.addArray();
+        }
+
+        current.add(1);
+
+        final int[] iterator = new int[]{0};
+
+        DotNotes.recurse(arrayNode, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                iterator[0]++;
+
+                assertNotNull(key);
+                assertTrue(key.isNumber());
+                assertEquals((int) key.asNumber(), 0);
+
+                assertNotNull(value);
+                assertTrue(value.isNumber());
+                assertEquals(value.asInt(), 1);
+
+                assertNotNull(path);
+                assertEquals(path.length(), 5001 * 3);
+            }
+        });
+
+        assertEquals(iterator[0], 1);
+    }
+
+    @Test
+    public void iteratesInDepthFirstOrder() throws Exception {
+        final ObjectNode objectNode = factory.objectNode();
+
+        objectNode.put("first", 1);
+        objectNode.withArray("second").add(2).addObject().put("third", 3);
+        objectNode.with("fourth").with("fifth").put("sixth", 4);
+        objectNode.put("seventh", 5);
+
+        final List<String> paths = Arrays.asList("first", "second[0]", "second[1].third", "fourth.fifth.sixth", "seventh");
+        final int[] iterator = new int[]{0};
+
+        DotNotes.recurse(objectNode, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                assertEquals(path, paths.get(iterator[0]++));
+                assertEquals(value.asInt(), iterator[0]);
+            }
+        });
+
+        assertEquals(iterator[0], 5);
+    }
+
+    @Test
+    public void visitsSharedPathSequences() throws Exception {
+        final ObjectNode objectNode = factory.objectNode();
+
+        objectNode.with("test").put("key", 1);
+        objectNode.with("test").withArray("values").add(2).add(3);
+        objectNode.put("quoted key", 4);
+
+        final List<String> paths = Arrays.asList("test.key", "test.values[0]", "test.values[1]", "[\"quoted key\"]");
+        final CharSequence[] previous = new CharSequence[1];
+        final int[] iterator = new int[]{0};
+
+        DotNotes.recurse(objectNode, new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                String expected = paths.get(iterator[0]++);
+
+                assertEquals(path.length(), expected.length());
+                assertEquals(path.charAt(0), expected.charAt(0));
+                assertEquals(path.subSequence(1, path.length()).toString(), expected.substring(1));
+                assertEquals(path.toString(), expected);
+
+                // the same buffer is handed to every call
+                if (previous[0] != null) {
+                    assertSame(path, previous[0]);
+                }
+
+                previous[0] = path;
+            }
+        });
+
+        assertEquals(iterator[0], 4);
+    }
+
+    @Test
+    public void visitsMultiDigitIndices() throws Exception {
+        final ArrayNode arrayNode = factory.arrayNode();
+
+        for (int i = 0; i < 1234; i++) {
+            arrayNode.add(i);
+        }
+
+        final int[] iterator = new int[]{0};
+
+        DotNotes.recurse(arrayNode, new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                assertEquals(path.toString(), "[" + iterator[0]++ + "]");
+            }
+        });
+
+        assertEquals(iterator[0], 1234);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void visitsSharedPathSequencesWithinBounds() throws Exception {
+        DotNotes.recurse(factory.arrayNode().add(1), new DotNotes.PathVisitor() {
+            @Override
+            protected void visit(NotedKey key, JsonNode value, CharSequence path) {
+                path.charAt(path.length());
+            }
+        });
+    }
+
+    @Test
+    public void sharesKeysOnlyWhenInterningIsRequired() throws Exception {
+        final ArrayNode arrayNode = factory.arrayNode();
+
+        arrayNode.addObject().put("shared", 1);
+        arrayNode.addObject().put("shared", 2);
+
+        final List<NotedKey> created = new ArrayList<>();
+        final List<NotedKey> interned = new ArrayList<>();
+
+        DotNotes.recurse(arrayNode, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                created.add(key);
+            }
+        });
+
+        DotNotes.recurse(arrayNode, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                interned.add(key);
+            }
+
+            @Override
+            protected boolean requireKeyInterning() {
+                return true;
+            }
+        });
+
+        assertEquals(created.get(0), created.get(1));
+        assertNotSame(created.get(0), created.get(1));
+
+        assertSame(interned.get(0), interned.get(1));
+        assertSame(interned.get(0), NotedKey.intern("shared"));
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `recurse`!")
     public void throwErrorWhenProvidedNonObject() throws Exception {
         DotNotes.recurse(factory.nullNode(), new DotNotes.NodeIterator() {
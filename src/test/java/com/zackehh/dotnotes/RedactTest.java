@@ -0,0 +1,140 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class RedactTest {
+
+    private static final String DOCUMENT = "{\"user\":{\"name\":\"x\",\"email\":\"x@y.z\"},\"payment\":{\"card\":"
+            + "[{\"number\":\"4111\",\"cvv\":1},{\"number\":\"4222\",\"meta\":{\"number\":3}}]},"
+            + "\"tags\":[\"a\",\"b\",\"c\"],\"auth\":{\"password\":1,\"nested\":[{\"password\":{\"x\":1}}]}}";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void removesMatchingPaths() throws Exception {
+        String output = redact(DotRedactor.compile("user.email", "payment.card[*].cvv", "tags[1]"), DOCUMENT);
+
+        JsonNode expected = mapper.readTree(DOCUMENT);
+
+        ((ObjectNode) expected.get("user")).remove("email");
+        ((ObjectNode) expected.at("/payment/card/0")).remove("cvv");
+        ((ArrayNode) expected.get("tags")).remove(1);
+
+        assertEquals(mapper.readTree(output), expected);
+    }
+
+    @Test
+    public void replacesMatchingPaths() throws Exception {
+        Map<String, JsonNode> rules = new LinkedHashMap<>();
+
+        rules.put("payment.card[*].number", JsonNodeFactory.instance.textNode("****"));
+        rules.put("user.name", JsonNodeFactory.instance.nullNode());
+        rules.put("auth", JsonNodeFactory.instance.objectNode().put("redacted", true));
+
+        JsonNode output = mapper.readTree(redact(DotRedactor.compile(rules), DOCUMENT));
+
+        assertEquals(output.at("/payment/card/0/number").asText(), "****");
+        assertEquals(output.at("/payment/card/1/number").asText(), "****");
+        assertEquals(output.at("/payment/card/1/meta/number").asInt(), 3);
+        assertEquals(output.at("/user/name").isNull(), true);
+        assertEquals(output.get("auth"), mapper.readTree("{\"redacted\":true}"));
+    }
+
+    @Test
+    public void removesDescendants() throws Exception {
+        JsonNode output = mapper.readTree(redact(DotRedactor.compile("..password", "..number"), DOCUMENT));
+
+        assertEquals(output.get("auth"), mapper.readTree("{\"nested\":[{}]}"));
+        assertEquals(output.at("/payment/card"), mapper.readTree("[{\"cvv\":1},{\"meta\":{}}]"));
+    }
+
+    @Test
+    public void usesFirstMatchingRule() throws Exception {
+        Map<String, JsonNode> rules = new LinkedHashMap<>();
+
+        rules.put("user.*", JsonNodeFactory.instance.textNode("first"));
+        rules.put("user.email", JsonNodeFactory.instance.textNode("second"));
+
+        JsonNode output = mapper.readTree(redact(DotRedactor.compile(rules), DOCUMENT));
+
+        assertEquals(output.get("user"), mapper.readTree("{\"name\":\"first\",\"email\":\"first\"}"));
+    }
+
+    @Test
+    public void copiesUnmatchedDocuments() throws Exception {
+        DotRedactor redactor = DotRedactor.compile("missing", "tags.x");
+
+        assertEquals(redact(redactor, DOCUMENT), DOCUMENT);
+        assertEquals(redact(redactor, "[1,[2],{}]"), "[1,[2],{}]");
+        assertEquals(redact(redactor, "\"text\""), "\"text\"");
+        assertEquals(redact(redactor, ""), "");
+    }
+
+    @Test
+    public void redactsConsecutiveValues() throws Exception {
+        DotRedactor redactor = DotRedactor.compile("a");
+
+        JsonParser parser = jsonFactory.createParser("{\"a\":1,\"b\":2} {\"a\":{\"c\":3}} [{\"a\":4}]");
+        StringWriter writer = new StringWriter();
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            while (parser.nextToken() != null) {
+                redactor.redact(parser, generator);
+                assertEquals(parser.currentToken().isStructEnd(), true);
+            }
+        }
+
+        assertEquals(writer.toString(), "{\"b\":2} {} [{\"a\":4}]");
+    }
+
+    @Test
+    public void redactsDeeplyNestedDocuments() throws Exception {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < 5000; i++) {
+            builder.append("{\"a\":");
+        }
+        builder.append("{\"sku\":1,\"b\":2}");
+        for (int i = 0; i < 5000; i++) {
+            builder.append('}');
+        }
+
+        String output = redact(DotRedactor.compile("..sku"), builder.toString());
+
+        assertEquals(output, builder.toString().replace("\"sku\":1,", ""));
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse key with trailing dot!")
+    public void throwErrorWhenProvidedInvalidPattern() throws Exception {
+        DotRedactor.compile("user.");
+    }
+
+    private String redact(DotRedactor redactor, String input) throws Exception {
+        StringWriter writer = new StringWriter();
+
+        try (JsonParser parser = jsonFactory.createParser(input);
+             JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            redactor.redact(parser, generator);
+            assertEquals(parser.nextToken(), (JsonToken) null);
+        }
+
+        return writer.toString();
+    }
+}
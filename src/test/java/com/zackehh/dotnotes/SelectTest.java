@@ -0,0 +1,74 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SelectTest {
+
+    private static final String[] PATHS = {
+        "a", "b.c[0]", "b.c[2].d", "b.e", "b.c[2]", "['f g'][0][1]", "b.c[9].d", "h.i.j", "a", "b.c[1].x"
+    };
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void selectsMatchingGet() throws Exception {
+        JsonNode node = mapper.readTree("{\"a\":1,\"b\":{\"c\":[true,null,{\"d\":1.5}],\"e\":\"x\"},\"f g\":[[2,3]],\"h\":null}");
+
+        DotSelector selector = DotSelector.compile(PATHS);
+
+        JsonNode[] results = selector.select(node);
+
+        assertEquals(selector.size(), PATHS.length);
+        assertEquals(results.length, PATHS.length);
+
+        for (int i = 0; i < PATHS.length; i++) {
+            assertEquals(selector.path(i), PATHS[i]);
+            assertEquals(results[i], DotNotes.get(node, PATHS[i]), PATHS[i]);
+        }
+
+        assertTrue(results[6].isMissingNode());
+        assertTrue(results[7].isNull());
+        assertTrue(results[9].isNull());
+    }
+
+    @Test
+    public void selectsIntoProvidedMap() throws Exception {
+        JsonNode node = mapper.readTree("{\"a\":1,\"b\":{\"e\":\"x\"}}");
+
+        Map<String, JsonNode> results = new HashMap<>();
+
+        DotSelector.compile("a", "b.e", "b.f").select(node, results);
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get("a").asInt(), 1);
+        assertEquals(results.get("b.e").asText(), "x");
+        assertTrue(results.get("b.f").isMissingNode());
+    }
+
+    @Test
+    public void selectsFromMissingTarget() throws Exception {
+        JsonNode[] results = DotSelector.compile(PATHS).select(null);
+
+        for (JsonNode result : results) {
+            assertTrue(result.isMissingNode());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Result array is smaller than the number of paths!")
+    public void throwErrorWhenProvidedSmallResults() throws Exception {
+        DotSelector.compile(PATHS).select(null, new JsonNode[1]);
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to parse empty string!")
+    public void throwErrorWhenProvidedEmptyPath() throws Exception {
+        DotSelector.compile("a", "");
+    }
+}
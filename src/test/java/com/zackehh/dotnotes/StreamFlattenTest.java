@@ -0,0 +1,174 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class StreamFlattenTest {
+
+    private static final String DOCUMENT = "{\"a\":1,\"b\":{\"c\":[true,false,null,{\"d\":1.5}],\"e\":[]},"
+            + "\"f g\":\"text\",\"1\":[[\"x\"]],\"h\":{},\"i\":123456789012345678901234567890}";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void emitsTypedValues() throws Exception {
+        List<String> visits = flatten(jsonFactory.createParser(DOCUMENT));
+
+        assertEquals(visits.size(), 8);
+        assertEquals(visits.get(0), "long:a=1");
+        assertEquals(visits.get(1), "boolean:b.c[0]=true");
+        assertEquals(visits.get(2), "boolean:b.c[1]=false");
+        assertEquals(visits.get(3), "null:b.c[2]");
+        assertEquals(visits.get(4), "double:b.c[3].d=1.5");
+        assertEquals(visits.get(5), "string:[\"f g\"]=text");
+        assertEquals(visits.get(6), "string:[\"1\"][0][0]=x");
+        assertEquals(visits.get(7), "number:i=" + new BigInteger("123456789012345678901234567890"));
+    }
+
+    @Test
+    public void matchesRecursePaths() throws Exception {
+        JsonNode tree = mapper.readTree(DOCUMENT);
+
+        final List<String> expected = new ArrayList<>();
+
+        DotNotes.recurse(tree, new DotNotes.NodeIterator() {
+            @Override
+            protected void execute(NotedKey key, JsonNode value, String path) {
+                expected.add(path);
+            }
+        });
+
+        final List<String> actual = new ArrayList<>();
+
+        DotStreams.flatten(jsonFactory.createParser(DOCUMENT), new PathVisitor(actual));
+
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void flattensFromCurrentToken() throws Exception {
+        JsonParser parser = jsonFactory.createParser("[{\"a\":1},{\"a\":2}]");
+
+        parser.nextToken();
+        parser.nextToken();
+
+        List<String> visits = flatten(parser);
+
+        assertEquals(visits.size(), 1);
+        assertEquals(visits.get(0), "long:a=1");
+        assertEquals(parser.currentToken(), JsonToken.END_OBJECT);
+
+        parser.nextToken();
+
+        visits = flatten(parser);
+
+        assertEquals(visits.get(0), "long:a=2");
+    }
+
+    @Test
+    public void flattensDeeplyNestedDocuments() throws Exception {
+        StringBuilder document = new StringBuilder();
+
+        for (int i = 0; i < 5000; i++) {
+            document.append('[');
+        }
+        document.append(1);
+        for (int i = 0; i < 5000; i++) {
+            document.append(']');
+        }
+
+        List<String> visits = flatten(jsonFactory.createParser(document.toString()));
+
+        assertEquals(visits.size(), 1);
+        assertEquals(visits.get(0).length(), "long:".length() + 5000 * 3 + "=1".length());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Non-object provided to `flatten`!")
+    public void throwErrorWhenProvidedNonObject() throws Exception {
+        flatten(jsonFactory.createParser("5"));
+    }
+
+    private List<String> flatten(JsonParser parser) throws Exception {
+        final List<String> visits = new ArrayList<>();
+
+        DotStreams.flatten(parser, new DotStreams.ValueVisitor() {
+            @Override
+            protected void visitBoolean(String path, boolean value) {
+                visits.add("boolean:" + path + "=" + value);
+            }
+
+            @Override
+            protected void visitDouble(String path, double value) {
+                visits.add("double:" + path + "=" + value);
+            }
+
+            @Override
+            protected void visitLong(String path, long value) {
+                visits.add("long:" + path + "=" + value);
+            }
+
+            @Override
+            protected void visitNull(String path) {
+                visits.add("null:" + path);
+            }
+
+            @Override
+            protected void visitString(String path, String value) {
+                visits.add("string:" + path + "=" + value);
+            }
+
+            @Override
+            protected void visitNumber(String path, Number value) {
+                visits.add("number:" + path + "=" + value);
+            }
+        });
+
+        return visits;
+    }
+
+    private static class PathVisitor extends DotStreams.ValueVisitor {
+
+        private final List<String> paths;
+
+        PathVisitor(List<String> paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        protected void visitBoolean(String path, boolean value) {
+            paths.add(path);
+        }
+
+        @Override
+        protected void visitDouble(String path, double value) {
+            paths.add(path);
+        }
+
+        @Override
+        protected void visitLong(String path, long value) {
+            paths.add(path);
+        }
+
+        @Override
+        protected void visitNull(String path) {
+            paths.add(path);
+        }
+
+        @Override
+        protected void visitString(String path, String value) {
+            paths.add(path);
+        }
+    }
+}
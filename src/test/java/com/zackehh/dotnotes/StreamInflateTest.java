@@ -0,0 +1,112 @@
+package com.zackehh.dotnotes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class StreamInflateTest {
+
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void inflatesSortedPaths() throws Exception {
+        Map<String, JsonNode> entries = new LinkedHashMap<>();
+
+        entries.put("a", factory.numberNode(1));
+        entries.put("b.c[0]", factory.booleanNode(true));
+        entries.put("b.c[1].d", factory.numberNode(1.5));
+        entries.put("b.c[1].e", factory.nullNode());
+        entries.put("b.f", factory.textNode("text"));
+        entries.put("[\"f g\"][0][0]", factory.textNode("x"));
+
+        StringWriter writer = new StringWriter();
+        JsonGenerator generator = mapper.getFactory().createGenerator(writer);
+
+        DotStreams.inflate(entries.entrySet().iterator(), generator);
+
+        generator.flush();
+
+        JsonNode expected = null;
+
+        for (Map.Entry<String, JsonNode> entry : entries.entrySet()) {
+            expected = DotNotes.create(expected, entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(mapper.readTree(writer.toString()), expected);
+    }
+
+    @Test
+    public void inflatesPathsSortedByDotPath() throws Exception {
+        List<DotPath> paths = new ArrayList<>();
+
+        paths.add(DotPath.compile("[10].a"));
+        paths.add(DotPath.compile("[2].b"));
+        paths.add(DotPath.compile("[2].a"));
+        paths.add(DotPath.compile("[10].b[0]"));
+
+        Collections.sort(paths);
+
+        StringWriter writer = new StringWriter();
+        JsonGenerator generator = mapper.getFactory().createGenerator(writer);
+
+        DotStreams.Inflater inflater = new DotStreams.Inflater(generator);
+
+        for (DotPath path : paths) {
+            inflater.write(path, factory.textNode(path.toString()));
+        }
+
+        inflater.finish();
+        generator.flush();
+
+        assertEquals(writer.toString(), "[{\"a\":\"[2].a\",\"b\":\"[2].b\"},{\"a\":\"[10].a\",\"b\":[\"[10].b[0]\"]}]");
+    }
+
+    @Test
+    public void inflatesEmptyDocument() throws Exception {
+        StringWriter writer = new StringWriter();
+        JsonGenerator generator = mapper.getFactory().createGenerator(writer);
+
+        DotStreams.inflate(Collections.<String, JsonNode>emptyMap().entrySet().iterator(), generator);
+
+        generator.flush();
+
+        assertEquals(writer.toString(), "{}");
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to inflate 'a.a' after 'a.b'!")
+    public void throwErrorWhenProvidedUnsortedPaths() throws Exception {
+        DotStreams.Inflater inflater = new DotStreams.Inflater(mapper.getFactory().createGenerator(new StringWriter()));
+
+        inflater.write("a.b", factory.nullNode());
+        inflater.write("a.a", factory.nullNode());
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Unable to inflate 'a.b' after 'a'!")
+    public void throwErrorWhenProvidedPrefixedPaths() throws Exception {
+        DotStreams.Inflater inflater = new DotStreams.Inflater(mapper.getFactory().createGenerator(new StringWriter()));
+
+        inflater.write("a", factory.nullNode());
+        inflater.write("a.b", factory.nullNode());
+    }
+
+    @Test(expectedExceptions = ParseException.class, expectedExceptionsMessageRegExp = "Expected ObjectNode target for inflation of 'a\\[0]'!")
+    public void throwErrorWhenProvidedMismatchedContainers() throws Exception {
+        DotStreams.Inflater inflater = new DotStreams.Inflater(mapper.getFactory().createGenerator(new StringWriter()));
+
+        inflater.write("a.b", factory.nullNode());
+        inflater.write("a[0]", factory.nullNode());
+    }
+}
@@ -0,0 +1,98 @@
+package com.zackehh.dotnotes;
+
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class Utf8SequenceTest {
+
+    @Test
+    public void wrapsAsciiArrays() throws Exception {
+        byte[] bytes = "xxtest.path[0]xx".getBytes(StandardCharsets.UTF_8);
+
+        CharSequence sequence = Utf8Sequence.of(bytes, 2, 12);
+
+        assertTrue(sequence instanceof Utf8Sequence);
+        assertEquals(sequence.length(), 12);
+        assertEquals(sequence.charAt(0), 't');
+        assertEquals(sequence.charAt(11), ']');
+        assertEquals(sequence.subSequence(5, 9).toString(), "path");
+        assertEquals(sequence.toString(), "test.path[0]");
+    }
+
+    @Test
+    public void decodesNonAsciiArrays() throws Exception {
+        byte[] bytes = "['café'].über".getBytes(StandardCharsets.UTF_8);
+
+        CharSequence sequence = Utf8Sequence.of(bytes, 0, bytes.length);
+
+        assertFalse(sequence instanceof Utf8Sequence);
+        assertEquals(sequence.toString(), "['café'].über");
+    }
+
+    @Test
+    public void wrapsHeapBuffers() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("xxtest.pathxx".getBytes(StandardCharsets.UTF_8));
+
+        buffer.position(2);
+        buffer.limit(11);
+
+        CharSequence sequence = Utf8Sequence.of(buffer);
+
+        assertTrue(sequence instanceof Utf8Sequence);
+        assertEquals(sequence.toString(), "test.path");
+        assertEquals(buffer.position(), 2);
+    }
+
+    @Test
+    public void wrapsDirectBuffers() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+
+        buffer.put("xxtest.path".getBytes(StandardCharsets.UTF_8));
+        buffer.flip();
+        buffer.position(2);
+
+        CharSequence sequence = Utf8Sequence.of(buffer);
+
+        assertTrue(sequence instanceof Utf8Sequence);
+        assertEquals(sequence.length(), 9);
+        assertEquals(sequence.charAt(4), '.');
+        assertEquals(sequence.subSequence(5, 9).toString(), "path");
+        assertEquals(sequence.toString(), "test.path");
+        assertEquals(buffer.position(), 2);
+    }
+
+    @Test
+    public void decodesNonAsciiDirectBuffers() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+
+        buffer.put("x.über".getBytes(StandardCharsets.UTF_8));
+        buffer.flip();
+
+        CharSequence sequence = Utf8Sequence.of(buffer);
+
+        assertFalse(sequence instanceof Utf8Sequence);
+        assertEquals(sequence.toString(), "x.über");
+        assertEquals(buffer.position(), 0);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void throwErrorWhenProvidedInvalidRange() throws Exception {
+        Utf8Sequence.of(new byte[4], 2, 3);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void throwErrorWhenReadingOutOfBounds() throws Exception {
+        Utf8Sequence.of(new byte[]{ 'a', 'b' }, 0, 1).charAt(1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void throwErrorWhenSlicingOutOfBounds() throws Exception {
+        Utf8Sequence.of(new byte[]{ 'a', 'b' }, 0, 2).subSequence(1, 3);
+    }
+}